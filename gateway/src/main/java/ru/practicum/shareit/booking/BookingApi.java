@@ -0,0 +1,42 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@RequestMapping(path = "/bookings")
+public interface BookingApi<R> {
+
+    @GetMapping
+    R getBookings(@RequestHeader("X-Sharer-User-Id") long userId,
+                  @RequestParam(name = "state", defaultValue = "all") String stateParam,
+                  @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+                  @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                  @RequestParam(name = "cursor", required = false) String cursor);
+
+    @PostMapping
+    R bookItem(@RequestHeader("X-Sharer-User-Id") long userId,
+               @RequestBody @Valid BookItemRequestDto requestDto);
+
+    @GetMapping("/owner")
+    @ResponseStatus(HttpStatus.OK)
+    R getBookingByItemOwner(@RequestHeader("X-Sharer-User-Id") long userId,
+                            @RequestParam(name = "state", defaultValue = "all") String stateParam,
+                            @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+                            @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                            @RequestParam(name = "cursor", required = false) String cursor);
+
+    @GetMapping("/{bookingId}")
+    R getBooking(@RequestHeader("X-Sharer-User-Id") long userId,
+                 @PathVariable Long bookingId);
+
+    @PatchMapping("/{bookingId}")
+    @ResponseStatus(HttpStatus.OK)
+    R approvedBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
+                      @PathVariable long bookingId,
+                      @RequestParam(name = "approved") boolean available);
+}
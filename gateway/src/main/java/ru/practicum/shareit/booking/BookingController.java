@@ -2,71 +2,51 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-
-import org.springframework.http.HttpStatus;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookItemRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
-import javax.validation.Valid;
-import javax.validation.constraints.Positive;
-import javax.validation.constraints.PositiveOrZero;
-
 @Controller
-@RequestMapping(path = "/bookings")
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Slf4j
 @Validated
-public class BookingController {
+public class BookingController implements BookingApi<ResponseEntity<Object>> {
     private final BookingClient bookingClient;
 
-    @GetMapping
-    public ResponseEntity<Object> getBookings(@RequestHeader("X-Sharer-User-Id") long userId,
-                                              @RequestParam(name = "state", defaultValue = "all") String stateParam,
-                                              @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+    @Override
+    public ResponseEntity<Object> getBookings(long userId, String stateParam, Integer from, Integer size, String cursor) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
         log.info("Get booking with state {}, userId={}, from={}, size={}", stateParam, userId, from, size);
-        return bookingClient.getBookings(userId, state, from, size);
+        return bookingClient.getBookings(userId, state, from, size, cursor);
     }
 
-    @PostMapping
-    public ResponseEntity<Object> bookItem(@RequestHeader("X-Sharer-User-Id") long userId,
-                                           @RequestBody @Valid BookItemRequestDto requestDto) {
+    @Override
+    public ResponseEntity<Object> bookItem(long userId, BookItemRequestDto requestDto) {
         log.info("Creating booking {}, userId={}", requestDto, userId);
         return bookingClient.bookItem(userId, requestDto);
     }
 
-    @GetMapping("/owner")
-    @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> getBookingByItemOwner(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                        @RequestParam(name = "state", defaultValue = "all") String stateParam,
-                                                        @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                                        @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
+    @Override
+    public ResponseEntity<Object> getBookingByItemOwner(long userId, String stateParam, Integer from, Integer size, String cursor) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
-        return bookingClient.getBookingByItemOwner(userId, state, from, size);
+        return bookingClient.getBookingByItemOwner(userId, state, from, size, cursor);
     }
 
-    @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> getBooking(@RequestHeader("X-Sharer-User-Id") long userId,
-                                             @PathVariable Long bookingId) {
+    @Override
+    public ResponseEntity<Object> getBooking(long userId, Long bookingId) {
         log.info("Get booking {}, userId={}", bookingId, userId);
         return bookingClient.getBooking(userId, bookingId);
     }
 
-    //?
-    @PatchMapping("/{bookingId}")
-    @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> approvedBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                  @PathVariable long bookingId,
-                                                  @RequestParam(name = "approved") boolean available) {
+    @Override
+    public ResponseEntity<Object> approvedBooking(Long userId, long bookingId, boolean available) {
         log.info("Отправлен запрос на изменение статуса бронирования от владельца c id: {}", userId);
-        var result = bookingClient.approved(userId, bookingId, available);
-        return result;
+        return bookingClient.approved(userId, bookingId, available);
     }
 }
@@ -0,0 +1,53 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.booking.dto.BookingState;
+
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactiveBookingController implements BookingApi<Mono<ResponseEntity<Object>>> {
+    private final ReactiveBookingClient bookingClient;
+
+    @Override
+    public Mono<ResponseEntity<Object>> getBookings(long userId, String stateParam, Integer from, Integer size, String cursor) {
+        BookingState state = BookingState.from(stateParam)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
+        log.info("Get booking with state {}, userId={}, from={}, size={}", stateParam, userId, from, size);
+        return bookingClient.getBookings(userId, state, from, size, cursor);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> bookItem(long userId, BookItemRequestDto requestDto) {
+        log.info("Creating booking {}, userId={}", requestDto, userId);
+        return bookingClient.bookItem(userId, requestDto);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> getBookingByItemOwner(long userId, String stateParam, Integer from, Integer size, String cursor) {
+        BookingState state = BookingState.from(stateParam)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
+        return bookingClient.getBookingByItemOwner(userId, state, from, size, cursor);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> getBooking(long userId, Long bookingId) {
+        log.info("Get booking {}, userId={}", bookingId, userId);
+        return bookingClient.getBooking(userId, bookingId);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> approvedBooking(Long userId, long bookingId, boolean available) {
+        log.info("Отправлен запрос на изменение статуса бронирования от владельца c id: {}", userId);
+        return bookingClient.approved(userId, bookingId, available);
+    }
+}
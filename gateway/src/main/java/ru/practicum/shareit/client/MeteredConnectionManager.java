@@ -0,0 +1,68 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class MeteredConnectionManager extends PoolingHttpClientConnectionManager implements MeterBinder {
+    private static final String POOL_NAME = "shareit-server";
+    private static final String LEASE_TIMER = "httpcomponents.httpclient.pool.lease";
+
+    private volatile Timer leased;
+    private volatile Timer timedOut;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new PoolingHttpClientConnectionManagerMetricsBinder(this, POOL_NAME).bindTo(registry);
+        leased = leaseTimer(registry, "success");
+        timedOut = leaseTimer(registry, "timeout");
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+        ConnectionRequest request = super.requestConnection(route, state);
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(long timeout, TimeUnit unit)
+                    throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                long start = System.nanoTime();
+                try {
+                    HttpClientConnection connection = request.get(timeout, unit);
+                    record(leased, start);
+                    return connection;
+                } catch (ConnectionPoolTimeoutException e) {
+                    record(timedOut, start);
+                    throw e;
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return request.cancel();
+            }
+        };
+    }
+
+    private static void record(Timer timer, long start) {
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer leaseTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder(LEASE_TIMER)
+                .description("Время ожидания соединения из пула")
+                .tag("httpclient", POOL_NAME)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
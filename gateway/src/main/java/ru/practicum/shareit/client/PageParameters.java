@@ -0,0 +1,26 @@
+package ru.practicum.shareit.client;
+
+import java.util.Map;
+import java.util.StringJoiner;
+
+public final class PageParameters {
+
+    private PageParameters() {
+    }
+
+    public static String query(Map<String, Object> parameters, Integer from, Integer size, String cursor) {
+        StringJoiner query = new StringJoiner("&", "?", "");
+        query.setEmptyValue("");
+        add(query, parameters, "from", from);
+        add(query, parameters, "size", size);
+        add(query, parameters, "cursor", cursor);
+        return query.toString();
+    }
+
+    private static void add(StringJoiner query, Map<String, Object> parameters, String name, Object value) {
+        if (value != null) {
+            parameters.put(name, value);
+            query.add(name + "={" + name + "}");
+        }
+    }
+}
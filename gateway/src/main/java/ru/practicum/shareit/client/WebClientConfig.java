@@ -0,0 +1,50 @@
+package ru.practicum.shareit.client;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class WebClientConfig {
+    private static final String POOL_NAME = "shareit-server";
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider connectionProvider(HttpClientProperties properties) {
+        HttpClientProperties.Reactive reactive = properties.getReactive();
+        Duration maxIdleTime = properties.getKeepAlive().compareTo(properties.getIdleTimeout()) < 0
+                ? properties.getKeepAlive()
+                : properties.getIdleTimeout();
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(reactive.getMaxConnections())
+                .pendingAcquireMaxCount(reactive.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(reactive.getPendingAcquireTimeout())
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(maxIdleTime)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public ClientHttpConnector clientHttpConnector(ConnectionProvider connectionProvider,
+                                                   HttpClientProperties properties) {
+        return new ReactorClientHttpConnector(HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getReadTimeout()));
+    }
+}
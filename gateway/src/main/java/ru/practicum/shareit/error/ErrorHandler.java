@@ -4,13 +4,17 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 import ru.practicum.shareit.error.model.ErrorResponse;
 
@@ -59,14 +63,19 @@ public class ErrorHandler {
     @ExceptionHandler
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleMethodArgumentNotValid(final MethodArgumentNotValidException e) throws JsonProcessingException {
-        Map<String, String> errors = new HashMap<>();
-        e.getBindingResult().getFieldErrors().forEach((error) -> {
-            String fieldName = error.getField();
-            String message = error.getDefaultMessage();
-            errors.put(fieldName, message);
-        });
-        log.error(mapper.writeValueAsString(errors), e);
-        return new ErrorResponse(errors);
+        return toValidationResponse(e.getBindingResult(), e);
+    }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleWebExchangeBindException(final WebExchangeBindException e) throws JsonProcessingException {
+        return toValidationResponse(e.getBindingResult(), e);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<ErrorResponse> handleResponseStatusException(final ResponseStatusException e) {
+        log.error(e.getMessage(), e);
+        return ResponseEntity.status(e.getStatus()).body(new ErrorResponse(e.getReason()));
     }
 
     @ExceptionHandler
@@ -89,4 +98,15 @@ public class ErrorHandler {
         log.error("Произошла непредвиденная ошибка: " + e.getMessage(), e);
         return new ErrorResponse("Произошла непредвиденная ошибка: " + e.getMessage());
     }
+
+    private ErrorResponse toValidationResponse(BindingResult result, Exception e) throws JsonProcessingException {
+        Map<String, String> errors = new HashMap<>();
+        result.getFieldErrors().forEach((error) -> {
+            String fieldName = error.getField();
+            String message = error.getDefaultMessage();
+            errors.put(fieldName, message);
+        });
+        log.error(mapper.writeValueAsString(errors), e);
+        return new ErrorResponse(errors);
+    }
 }
\ No newline at end of file
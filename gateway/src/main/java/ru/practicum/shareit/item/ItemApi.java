@@ -0,0 +1,64 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemItemRequestDto;
+import ru.practicum.shareit.validation.ValidationGroups;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@RequestMapping(path = "/items")
+public interface ItemApi<R> {
+
+    @GetMapping
+    R getItemsByUserId(@RequestHeader("X-Sharer-User-Id") long userId,
+                       @PositiveOrZero
+                       @RequestParam(name = "from", defaultValue = "0") Integer from,
+                       @Positive
+                       @RequestParam(name = "size", defaultValue = "20") Integer size,
+                       @RequestParam(name = "expand", required = false) String expand);
+
+    @PostMapping
+    @Validated(ValidationGroups.Create.class)
+    R addItem(@RequestHeader("X-Sharer-User-Id") long userId,
+              @RequestBody @Valid ItemItemRequestDto requestDto);
+
+    @GetMapping("/{itemId}")
+    R getItemById(@RequestHeader("X-Sharer-User-Id") long userId,
+                  @PathVariable long itemId,
+                  @RequestParam(name = "expand", required = false) String expand);
+
+    @PatchMapping("/{itemId}")
+    @Validated(ValidationGroups.Update.class)
+    R updateItem(@RequestHeader("X-Sharer-User-Id") Long userId,
+                 @PathVariable long itemId,
+                 @Valid @RequestBody ItemItemRequestDto itemDto);
+
+    @GetMapping("/search")
+    R textSearch(@RequestParam(value = "text") String text,
+                 @PositiveOrZero
+                 @RequestParam(defaultValue = "0") @Min(0) Integer from,
+                 @Positive
+                 @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
+                 @RequestParam(required = false) String cursor);
+
+    @PostMapping("/{itemId}/comment")
+    @ResponseStatus(HttpStatus.OK)
+    R addComment(@RequestHeader("X-Sharer-User-Id") long userId,
+                 @RequestBody CommentDto commentDto,
+                 @PathVariable long itemId);
+
+    @GetMapping("/{itemId}/comments")
+    R getComments(@RequestHeader("X-Sharer-User-Id") long userId,
+                  @PathVariable long itemId,
+                  @PositiveOrZero
+                  @RequestParam(defaultValue = "0") @Min(0) Integer from,
+                  @Positive
+                  @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size);
+}
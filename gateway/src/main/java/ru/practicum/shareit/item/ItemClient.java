@@ -3,8 +3,9 @@ package ru.practicum.shareit.item;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
@@ -15,15 +16,17 @@ import javax.validation.ValidationException;
 import java.util.Map;
 
 @Service
+@Profile("!reactive")
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .requestFactory(() -> requestFactory)
                         .build()
         );
     }
@@ -38,11 +41,22 @@ public class ItemClient extends BaseClient {
         return patch("/" + itemDto.getId(), userId, itemDto);
     }
 
-    public ResponseEntity<Object> getItem(long itemId, long userId) {
+    public ResponseEntity<Object> getItem(long itemId, long userId, String expand) {
+        if (expand != null) {
+            return get("/" + itemId + "?expand={expand}", userId, Map.of("expand", expand));
+        }
         return get("/" + itemId, userId);
     }
 
-    public ResponseEntity<Object> getItemsByUserId(long userId, int from, int size) {
+    public ResponseEntity<Object> getItemsByUserId(long userId, int from, int size, String expand) {
+        if (expand != null) {
+            Map<String, Object> parameters = Map.of(
+                    "from", from,
+                    "size", size,
+                    "expand", expand
+            );
+            return get("?from={from}&size={size}&expand={expand}", userId, parameters);
+        }
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
@@ -50,7 +64,15 @@ public class ItemClient extends BaseClient {
         return get("?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> textSearch(String text, int from, int size) {
+    public ResponseEntity<Object> textSearch(String text, int from, int size, String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "size", size,
+                    "text", text,
+                    "cursor", cursor
+            );
+            return get("/search?text={text}&size={size}&cursor={cursor}", parameters);
+        }
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size,
@@ -63,7 +85,15 @@ public class ItemClient extends BaseClient {
         return post(String.format("/%s/comment", itemId), userId, commentDto);
     }
 
-    private void validateItemDto(ItemItemRequestDto itemDto, boolean isUpdate) {
+    public ResponseEntity<Object> getComments(long userId, long itemId, int from, int size) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return get(String.format("/%s/comments?from={from}&size={size}", itemId), userId, parameters);
+    }
+
+    static void validateItemDto(ItemItemRequestDto itemDto, boolean isUpdate) {
         if (isUpdate && (itemDto.getName() != null && itemDto.getName().isBlank()) ||
                 (!isUpdate && (itemDto.getName() == null || itemDto.getName().isBlank()))) {
             throw new ValidationException("Не указано поле Name");
@@ -2,81 +2,54 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemItemRequestDto;
-import ru.practicum.shareit.validation.ValidationGroups;
 
-import javax.validation.Valid;
 import javax.validation.ValidationException;
-import javax.validation.constraints.Max;
-import javax.validation.constraints.Min;
-import javax.validation.constraints.Positive;
-import javax.validation.constraints.PositiveOrZero;
 
 @Controller
-@RequestMapping(path = "/items")
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Slf4j
 @Validated
-public class ItemController {
+public class ItemController implements ItemApi<ResponseEntity<Object>> {
     private final ItemClient itemClient;
 
-    @GetMapping
-    public ResponseEntity<Object> getItemsByUserId(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                   @PositiveOrZero
-                                                   @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                                   @Positive
-                                                   @RequestParam(name = "size", defaultValue = "20") Integer size) {
-
-        return itemClient.getItemsByUserId(userId, from, size);
+    @Override
+    public ResponseEntity<Object> getItemsByUserId(long userId, Integer from, Integer size, String expand) {
+        return itemClient.getItemsByUserId(userId, from, size, expand);
     }
 
-    @PostMapping
-    @Validated(ValidationGroups.Create.class)
-    public ResponseEntity<Object> addItem(@RequestHeader("X-Sharer-User-Id") long userId,
-                                          @RequestBody @Valid ItemItemRequestDto requestDto) {
+    @Override
+    public ResponseEntity<Object> addItem(long userId, ItemItemRequestDto requestDto) {
         log.info("Creating item {}, userId={}", requestDto, userId);
         return itemClient.addItem(userId, requestDto);
     }
 
-    @GetMapping("/{itemId}")
-    public ResponseEntity<Object> getItemById(@RequestHeader("X-Sharer-User-Id") long userId,
-                                              @PathVariable long itemId) {
+    @Override
+    public ResponseEntity<Object> getItemById(long userId, long itemId, String expand) {
         log.info("Get item {}, userId={}", itemId, userId);
-        return itemClient.getItem(itemId, userId);
+        return itemClient.getItem(itemId, userId, expand);
     }
 
-    @PatchMapping("/{itemId}")
-    @Validated(ValidationGroups.Update.class)
-    public ResponseEntity<Object> updateItem(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                             @PathVariable long itemId,
-                                             @Valid  @RequestBody ItemItemRequestDto itemDto) {
+    @Override
+    public ResponseEntity<Object> updateItem(Long userId, long itemId, ItemItemRequestDto itemDto) {
         log.info("Обновление вещи id: {}", itemId);
         itemDto.setId(itemId);
         return itemClient.updateItem(userId, itemDto);
     }
 
-    @GetMapping("/search")
-    public ResponseEntity<Object> textSearch(
-            @RequestParam(value = "text") String text,
-            @PositiveOrZero
-            @RequestParam(defaultValue = "0") @Min(0) Integer from,
-            @Positive
-            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size) {
-        return itemClient.textSearch(text, from, size);
+    @Override
+    public ResponseEntity<Object> textSearch(String text, Integer from, Integer size, String cursor) {
+        return itemClient.textSearch(text, from, size, cursor);
     }
 
-    @PostMapping("/{itemId}/comment")
-    @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> addComment(@RequestHeader("X-Sharer-User-Id") long userId,
-                                 @RequestBody CommentDto commentDto,
-                                 @PathVariable long itemId) {
-
+    @Override
+    public ResponseEntity<Object> addComment(long userId, CommentDto commentDto, long itemId) {
         String text = commentDto.getText();
         if (text.isEmpty()) {
             throw new ValidationException("Поле text не может быть пустым!");
@@ -84,4 +57,9 @@ public class ItemController {
         commentDto.setText(text);
         return itemClient.addComment(userId, itemId, commentDto);
     }
+
+    @Override
+    public ResponseEntity<Object> getComments(long userId, long itemId, Integer from, Integer size) {
+        return itemClient.getComments(userId, itemId, from, size);
+    }
 }
@@ -0,0 +1,94 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemItemRequestDto;
+
+import java.util.Map;
+
+@Service
+@Profile("reactive")
+public class ReactiveItemClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/items";
+
+    @Autowired
+    public ReactiveItemClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                              ClientHttpConnector connector) {
+        super(
+                builder
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(connector)
+                        .build()
+        );
+    }
+
+    public Mono<ResponseEntity<Object>> addItem(long userId, ItemItemRequestDto itemDto) {
+        ItemClient.validateItemDto(itemDto, false);
+        return post("", userId, itemDto);
+    }
+
+    public Mono<ResponseEntity<Object>> updateItem(long userId, ItemItemRequestDto itemDto) {
+        ItemClient.validateItemDto(itemDto, true);
+        return patch("/" + itemDto.getId(), userId, itemDto);
+    }
+
+    public Mono<ResponseEntity<Object>> getItem(long itemId, long userId, String expand) {
+        if (expand != null) {
+            return get("/" + itemId + "?expand={expand}", userId, Map.of("expand", expand));
+        }
+        return get("/" + itemId, userId);
+    }
+
+    public Mono<ResponseEntity<Object>> getItemsByUserId(long userId, int from, int size, String expand) {
+        if (expand != null) {
+            Map<String, Object> parameters = Map.of(
+                    "from", from,
+                    "size", size,
+                    "expand", expand
+            );
+            return get("?from={from}&size={size}&expand={expand}", userId, parameters);
+        }
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return get("?from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> textSearch(String text, int from, int size, String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "size", size,
+                    "text", text,
+                    "cursor", cursor
+            );
+            return get("/search?text={text}&size={size}&cursor={cursor}", parameters);
+        }
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size,
+                "text", text
+        );
+        return get("/search?text={text}&from={from}&size={size}", parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> addComment(long userId, long itemId, CommentDto commentDto) {
+        return post(String.format("/%s/comment", itemId), userId, commentDto);
+    }
+
+    public Mono<ResponseEntity<Object>> getComments(long userId, long itemId, int from, int size) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return get(String.format("/%s/comments?from={from}&size={size}", itemId), userId, parameters);
+    }
+}
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemItemRequestDto;
+
+import javax.validation.ValidationException;
+
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactiveItemController implements ItemApi<Mono<ResponseEntity<Object>>> {
+    private final ReactiveItemClient itemClient;
+
+    @Override
+    public Mono<ResponseEntity<Object>> getItemsByUserId(long userId, Integer from, Integer size, String expand) {
+        return itemClient.getItemsByUserId(userId, from, size, expand);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> addItem(long userId, ItemItemRequestDto requestDto) {
+        log.info("Creating item {}, userId={}", requestDto, userId);
+        return itemClient.addItem(userId, requestDto);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> getItemById(long userId, long itemId, String expand) {
+        log.info("Get item {}, userId={}", itemId, userId);
+        return itemClient.getItem(itemId, userId, expand);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> updateItem(Long userId, long itemId, ItemItemRequestDto itemDto) {
+        log.info("Обновление вещи id: {}", itemId);
+        itemDto.setId(itemId);
+        return itemClient.updateItem(userId, itemDto);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> textSearch(String text, Integer from, Integer size, String cursor) {
+        return itemClient.textSearch(text, from, size, cursor);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> addComment(long userId, CommentDto commentDto, long itemId) {
+        String text = commentDto.getText();
+        if (text.isEmpty()) {
+            throw new ValidationException("Поле text не может быть пустым!");
+        }
+        commentDto.setText(text);
+        return itemClient.addComment(userId, itemId, commentDto);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> getComments(long userId, long itemId, Integer from, Integer size) {
+        return itemClient.getComments(userId, itemId, from, size);
+    }
+}
@@ -0,0 +1,45 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.validation.ValidationGroups;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+@RequestMapping(path = "/requests")
+public interface ItemRequestApi<R, S> {
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @Validated(ValidationGroups.Create.class)
+    R addRequest(@RequestHeader("X-Sharer-User-Id") Long userId,
+                 @Valid @RequestBody ItemRequestDto itemRequestDto);
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    R getItemsByUserId(@RequestHeader("X-Sharer-User-Id") long userId,
+                       @RequestParam(required = false) @Min(0) Integer from,
+                       @RequestParam(required = false) @Min(1) @Max(100) Integer size,
+                       @RequestParam(required = false) String cursor);
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    S streamItemsByUserId(@RequestHeader("X-Sharer-User-Id") long userId,
+                          @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size);
+
+    @GetMapping("/all")
+    @ResponseStatus(HttpStatus.OK)
+    R returnAll(@RequestHeader("X-Sharer-User-Id") long userId,
+                @RequestParam(defaultValue = "0") @Min(0) Integer from,
+                @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
+                @RequestParam(required = false) String cursor);
+
+    @GetMapping("/{requestId}")
+    @ResponseStatus(HttpStatus.OK)
+    R get(@RequestHeader("X-Sharer-User-Id") long userId,
+          @PathVariable long requestId);
+}
@@ -3,54 +3,83 @@ package ru.practicum.shareit.request;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.PageParameters;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import javax.validation.ValidationException;
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
+@Profile("!reactive")
 public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                             ClientHttpRequestFactory requestFactory) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .requestFactory(() -> requestFactory)
                         .build()
         );
     }
 
     public ResponseEntity<Object> addItemRequest(long userId, ItemRequestDto itemRequestDto) {
-        if (itemRequestDto.getDescription() == null || itemRequestDto.getDescription().isEmpty()) {
-            throw new ValidationException("Поле не может быть пустым!");
-        }
+        validateItemRequest(itemRequestDto);
         return post("", userId, itemRequestDto);
     }
 
-    public ResponseEntity<Object> getItemsRequests(long userId) {
-        return get("", userId);
+    public ResponseEntity<Object> getItemsRequests(long userId, Integer from, Integer size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        return get(PageParameters.query(parameters, from, size, cursor), userId, parameters);
     }
 
-    public ResponseEntity<Object> getAllRequests(long userId, int from, int size) {
-        if (from < 0) {
-            throw new ValidationException("Отрицательное значение фром");
-        }
+    public ResponseEntity<StreamingResponseBody> streamItemsRequests(long userId, int size) {
         Map<String, Object> parameters = Map.of(
-                "from", from,
                 "size", size
         );
-        return get("/all?from={from}&size={size}", userId, parameters);
+        return stream("?size={size}", userId, parameters);
+    }
+
+    public ResponseEntity<Object> getAllRequests(long userId, int from, int size, String cursor) {
+        validateFrom(from);
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "from", from,
+                "size", size
+        ));
+        return get(withCursor("/all?from={from}&size={size}", parameters, cursor), userId, parameters);
     }
 
     public ResponseEntity<Object> getRequestById(Long userId, long requestId) {
         return get("/" + requestId, userId);
     }
 
+    static void validateItemRequest(ItemRequestDto itemRequestDto) {
+        if (itemRequestDto.getDescription() == null || itemRequestDto.getDescription().isEmpty()) {
+            throw new ValidationException("Поле не может быть пустым!");
+        }
+    }
+
+    static void validateFrom(int from) {
+        if (from < 0) {
+            throw new ValidationException("Отрицательное значение фром");
+        }
+    }
+
+    static String withCursor(String path, Map<String, Object> parameters, String cursor) {
+        if (cursor == null) {
+            return path;
+        }
+        parameters.put("cursor", cursor);
+        return path + "&cursor={cursor}";
+    }
 }
@@ -2,52 +2,43 @@ package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
-import ru.practicum.shareit.validation.ValidationGroups;
-
-import javax.validation.Valid;
-import javax.validation.constraints.Max;
-import javax.validation.constraints.Min;
 
 @Controller
-@RequestMapping(path = "/requests")
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Slf4j
 @Validated
-public class ItemRequestController {
+public class ItemRequestController implements ItemRequestApi<ResponseEntity<Object>, ResponseEntity<StreamingResponseBody>> {
     private final ItemRequestClient requestClient;
 
-    @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    @Validated(ValidationGroups.Create.class)
-    public ResponseEntity<Object> addRequest(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                     @Valid @RequestBody ItemRequestDto itemRequestDto) {
+    @Override
+    public ResponseEntity<Object> addRequest(Long userId, ItemRequestDto itemRequestDto) {
         return requestClient.addItemRequest(userId, itemRequestDto);
     }
 
-    @GetMapping
-    @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> getItemsByUserId(@RequestHeader("X-Sharer-User-Id") long userId) {
-        return requestClient.getItemsRequests(userId);
+    @Override
+    public ResponseEntity<Object> getItemsByUserId(long userId, Integer from, Integer size, String cursor) {
+        return requestClient.getItemsRequests(userId, from, size, cursor);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamItemsByUserId(long userId, Integer size) {
+        return requestClient.streamItemsRequests(userId, size);
     }
 
-    @GetMapping("/all")
-    @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> returnAll(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                  @RequestParam(defaultValue = "0") @Min(0) Integer from,
-                                                  @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size) {
-        return requestClient.getAllRequests(userId, from, size);
+    @Override
+    public ResponseEntity<Object> returnAll(long userId, Integer from, Integer size, String cursor) {
+        return requestClient.getAllRequests(userId, from, size, cursor);
     }
 
-    @GetMapping("/{requestId}")
-    @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> get(@RequestHeader("X-Sharer-User-Id") long userId,
-                                      @PathVariable long requestId) {
+    @Override
+    public ResponseEntity<Object> get(long userId, long requestId) {
         return requestClient.getRequestById(userId, requestId);
     }
 }
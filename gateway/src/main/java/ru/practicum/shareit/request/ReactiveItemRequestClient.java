@@ -0,0 +1,66 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.PageParameters;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+@Profile("reactive")
+public class ReactiveItemRequestClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/requests";
+
+    @Autowired
+    public ReactiveItemRequestClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                                     ClientHttpConnector connector) {
+        super(
+                builder
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(connector)
+                        .build()
+        );
+    }
+
+    public Mono<ResponseEntity<Object>> addItemRequest(long userId, ItemRequestDto itemRequestDto) {
+        ItemRequestClient.validateItemRequest(itemRequestDto);
+        return post("", userId, itemRequestDto);
+    }
+
+    public Mono<ResponseEntity<Object>> getItemsRequests(long userId, Integer from, Integer size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        return get(PageParameters.query(parameters, from, size, cursor), userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamItemsRequests(long userId, int size) {
+        Map<String, Object> parameters = Map.of(
+                "size", size
+        );
+        return stream("?size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllRequests(long userId, int from, int size, String cursor) {
+        ItemRequestClient.validateFrom(from);
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "from", from,
+                "size", size
+        ));
+        return get(ItemRequestClient.withCursor("/all?from={from}&size={size}", parameters, cursor),
+                userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> getRequestById(Long userId, long requestId) {
+        return get("/" + requestId, userId);
+    }
+}
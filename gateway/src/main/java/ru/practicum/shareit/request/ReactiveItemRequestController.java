@@ -0,0 +1,46 @@
+package ru.practicum.shareit.request;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactiveItemRequestController implements ItemRequestApi<Mono<ResponseEntity<Object>>, Mono<ResponseEntity<Flux<DataBuffer>>>> {
+    private final ReactiveItemRequestClient requestClient;
+
+    @Override
+    public Mono<ResponseEntity<Object>> addRequest(Long userId, ItemRequestDto itemRequestDto) {
+        return requestClient.addItemRequest(userId, itemRequestDto);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> getItemsByUserId(long userId, Integer from, Integer size, String cursor) {
+        return requestClient.getItemsRequests(userId, from, size, cursor);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamItemsByUserId(long userId, Integer size) {
+        return requestClient.streamItemsRequests(userId, size);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> returnAll(long userId, Integer from, Integer size, String cursor) {
+        return requestClient.getAllRequests(userId, from, size, cursor);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> get(long userId, long requestId) {
+        return requestClient.getRequestById(userId, requestId);
+    }
+}
@@ -0,0 +1,69 @@
+package ru.practicum.shareit.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.PageParameters;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import javax.validation.ValidationException;
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveUserClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/users";
+
+    @Autowired
+    public ReactiveUserClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                              ClientHttpConnector connector) {
+        super(
+                builder
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(connector)
+                        .build()
+        );
+    }
+
+    public Mono<ResponseEntity<Object>> addUser(UserDto userDto) {
+        UserClient.validateUser(userDto);
+        log.info("Добавлен новый пользователь; {}", userDto.getName());
+        return post("", userDto);
+    }
+
+    public Mono<ResponseEntity<Object>> updateUser(UserDto userDto) {
+        if (userDto == null) {
+            throw new ValidationException("Такой пользователь не существует!");
+        }
+        log.info("Данные пользователя обновлены: {}", userDto.getName());
+        return patch("/" + userDto.getId(), userDto);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllUsers(Integer from, Integer size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        return get(PageParameters.query(parameters, from, size, cursor), parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamAllUsers() {
+        return stream("", null, Map.of());
+    }
+
+    public Mono<ResponseEntity<Object>> getUserById(long id) {
+        return get("/" + id);
+    }
+
+    public Mono<ResponseEntity<Object>> deleteUser(long id) {
+        return delete("/" + id);
+    }
+}
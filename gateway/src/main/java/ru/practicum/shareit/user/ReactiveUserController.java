@@ -0,0 +1,55 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.user.dto.UserDto;
+
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactiveUserController implements UserApi<Mono<ResponseEntity<Object>>, Mono<ResponseEntity<Flux<DataBuffer>>>> {
+    private final ReactiveUserClient userClient;
+
+    @Override
+    public Mono<ResponseEntity<Object>> getUsers(Integer from, Integer size, String cursor) {
+        return userClient.getAllUsers(from, size, cursor);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamUsers() {
+        return userClient.streamAllUsers();
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> addUser(UserDto user) {
+        log.info("Добавлен пользователь: {}", user);
+        return userClient.addUser(user);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> updateUser(UserDto user, Long userId) {
+        log.info("Обновление данных пользователя c id: {}", userId);
+        user.setId(userId);
+        return userClient.updateUser(user);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> getUserById(long id) {
+        return userClient.getUserById(id);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Object>> deleteUser(int userId) {
+        log.info("Пользователь был удален из списка по id: {}", userId);
+        return userClient.deleteUser(userId);
+    }
+}
@@ -0,0 +1,44 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.validation.ValidationGroups;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@RequestMapping(path = "/users")
+public interface UserApi<R, S> {
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    R getUsers(@PositiveOrZero @RequestParam(required = false) Integer from,
+               @Positive @Max(100) @RequestParam(required = false) Integer size,
+               @RequestParam(required = false) String cursor);
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    S streamUsers();
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @Validated(ValidationGroups.Create.class)
+    R addUser(@Valid @RequestBody UserDto user);
+
+    @PatchMapping("/{userId}")
+    @ResponseStatus(HttpStatus.OK)
+    @Validated(ValidationGroups.Update.class)
+    R updateUser(@RequestBody @Valid UserDto user,
+                 @PathVariable Long userId);
+
+    @GetMapping("/{id}")
+    R getUserById(@PathVariable long id);
+
+    @DeleteMapping("/{userId}")
+    @ResponseStatus(HttpStatus.OK)
+    R deleteUser(@PathVariable int userId);
+}
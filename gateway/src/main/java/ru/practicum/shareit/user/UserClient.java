@@ -4,26 +4,33 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.PageParameters;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import javax.validation.ValidationException;
+import java.util.HashMap;
+import java.util.Map;
 
 @Slf4j
 @Service
+@Profile("!reactive")
 public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .requestFactory(() -> requestFactory)
                         .build()
         );
     }
@@ -42,8 +49,13 @@ public class UserClient extends BaseClient {
         return patch("/" + userDto.getId(), userDto);
     }
 
-    public ResponseEntity<Object> getAllUsers() {
-        return get("");
+    public ResponseEntity<Object> getAllUsers(Integer from, Integer size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        return get(PageParameters.query(parameters, from, size, cursor), parameters);
+    }
+
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        return stream("", null, Map.of());
     }
 
     public ResponseEntity<Object> getUserById(long id) {
@@ -55,7 +67,7 @@ public class UserClient extends BaseClient {
     }
 
 
-    private void validateUser(UserDto userDto) {
+    static void validateUser(UserDto userDto) {
         if (userDto.getEmail() == null || userDto.getEmail().isEmpty()) {
             throw new ValidationException("Email не может быть пустым!");
         }
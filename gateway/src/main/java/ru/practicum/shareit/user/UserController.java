@@ -2,57 +2,51 @@ package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.user.dto.UserDto;
-import ru.practicum.shareit.validation.ValidationGroups;
-
-import javax.validation.Valid;
-import javax.validation.constraints.*;
 
 @Controller
-@RequestMapping(path = "/users")
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Slf4j
 @Validated
-public class UserController {
+public class UserController implements UserApi<ResponseEntity<Object>, ResponseEntity<StreamingResponseBody>> {
     private final UserClient userClient;
 
-    @GetMapping
-    @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> getUsers() {
-        return userClient.getAllUsers();
+    @Override
+    public ResponseEntity<Object> getUsers(Integer from, Integer size, String cursor) {
+        return userClient.getAllUsers(from, size, cursor);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamUsers() {
+        return userClient.streamAllUsers();
     }
 
-    @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    @Validated(ValidationGroups.Create.class)
-    public ResponseEntity<Object> addUser(@Valid @RequestBody UserDto user) {
+    @Override
+    public ResponseEntity<Object> addUser(UserDto user) {
         log.info("Добавлен пользователь: {}", user);
         return userClient.addUser(user);
     }
 
-    @PatchMapping("/{userId}")
-    @ResponseStatus(HttpStatus.OK)
-    @Validated(ValidationGroups.Update.class)
-    public ResponseEntity<Object> updateUser(@RequestBody @Valid UserDto user,
-                                             @PathVariable Long userId) {
+    @Override
+    public ResponseEntity<Object> updateUser(UserDto user, Long userId) {
         log.info("Обновление данных пользователя c id: {}", userId);
         user.setId(userId);
         return userClient.updateUser(user);
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<Object> getUserById(@PathVariable long id) {
+    @Override
+    public ResponseEntity<Object> getUserById(long id) {
         return userClient.getUserById(id);
     }
 
-    @DeleteMapping("/{userId}")
-    @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Object> deleteUser(@PathVariable int userId) {
+    @Override
+    public ResponseEntity<Object> deleteUser(int userId) {
         log.info("Пользователь был удален из списка по id: {}", userId);
         return userClient.deleteUser(userId);
     }
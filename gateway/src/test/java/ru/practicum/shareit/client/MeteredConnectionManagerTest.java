@@ -0,0 +1,99 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.routing.HttpRoute;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MeteredConnectionManagerTest {
+    private static final HttpRoute ROUTE = new HttpRoute(new HttpHost("localhost", 9090));
+
+    private MeteredConnectionManager connectionManager;
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        connectionManager = new MeteredConnectionManager();
+        connectionManager.setMaxTotal(1);
+        connectionManager.setDefaultMaxPerRoute(1);
+        registry = new SimpleMeterRegistry();
+        connectionManager.bindTo(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionManager.shutdown();
+    }
+
+    @Test
+    void bindTo_whenBound_thenExposePoolGauges() {
+        assertEquals(1.0, registry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "shareit-server")
+                .gauge()
+                .value());
+        assertEquals(0.0, registry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "leased")
+                .gauge()
+                .value());
+    }
+
+    @Test
+    void requestConnection_whenPoolHasRoom_thenRecordSuccessfulLease() {
+        lease();
+
+        assertEquals(1, leaseCount("success"));
+        assertEquals(0, leaseCount("timeout"));
+        assertEquals(1.0, registry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "leased")
+                .gauge()
+                .value());
+    }
+
+    @Test
+    void requestConnection_whenPoolIsExhausted_thenRecordTimeoutAndRethrow() {
+        HttpClientConnection connection = lease();
+
+        assertThrows(ConnectionPoolTimeoutException.class, this::lease);
+        assertEquals(1, leaseCount("success"));
+        assertEquals(1, leaseCount("timeout"));
+
+        connectionManager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+        lease();
+        assertEquals(2, leaseCount("success"));
+    }
+
+    @Test
+    @SneakyThrows
+    void requestConnection_whenNotBound_thenLeaseWithoutMetrics() {
+        MeteredConnectionManager unbound = new MeteredConnectionManager();
+        try {
+            assertFalse(unbound.requestConnection(ROUTE, null).get(10, TimeUnit.MILLISECONDS).isOpen());
+        } finally {
+            unbound.shutdown();
+        }
+    }
+
+    @SneakyThrows
+    private HttpClientConnection lease() {
+        return connectionManager.requestConnection(ROUTE, null).get(50, TimeUnit.MILLISECONDS);
+    }
+
+    private long leaseCount(String outcome) {
+        return registry.get("httpcomponents.httpclient.pool.lease")
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PageParametersTest {
+
+    @Test
+    void query_whenNothingGiven_thenEmpty() {
+        Map<String, Object> parameters = new HashMap<>();
+
+        assertEquals("", PageParameters.query(parameters, null, null, null));
+        assertTrue(parameters.isEmpty());
+    }
+
+    @Test
+    void query_whenSomeGiven_thenOnlyThose() {
+        Map<String, Object> parameters = new HashMap<>();
+
+        assertEquals("?size={size}&cursor={cursor}", PageParameters.query(parameters, null, 5, "abc"));
+        assertEquals(Map.of("size", 5, "cursor", "abc"), parameters);
+    }
+
+    @Test
+    void query_whenAllGiven_thenAll() {
+        Map<String, Object> parameters = new HashMap<>();
+
+        assertEquals("?from={from}&size={size}&cursor={cursor}", PageParameters.query(parameters, 0, 20, "abc"));
+        assertEquals(Map.of("from", 0, "size", 20, "cursor", "abc"), parameters);
+    }
+}
@@ -0,0 +1,89 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import ru.practicum.shareit.user.ReactiveUserClient;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReactiveBaseClientTest {
+    private static final Duration RESPONSE_DELAY = Duration.ofMillis(500);
+
+    private final WebClientConfig config = new WebClientConfig();
+    private DisposableServer server;
+    private ConnectionProvider connectionProvider;
+    private final Disposable.Composite inFlight = Disposables.composite();
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/users/{id}", (request, response) -> response
+                        .header("Content-Type", "application/json")
+                        .sendString(Mono.delay(RESPONSE_DELAY).thenReturn("{\"id\":" + request.param("id") + "}"))))
+                .bindNow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        inFlight.dispose();
+        connectionProvider.dispose();
+        server.disposeNow();
+    }
+
+    @Test
+    void get_whenConnectionFree_thenProxyUpstreamResponse() {
+        ReactiveUserClient client = client(1, -1);
+
+        ResponseEntity<Object> response = client.getUserById(1).block();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+
+    @Test
+    void get_whenPendingAcquireTimesOut_thenServiceUnavailable() {
+        ReactiveUserClient client = client(1, -1);
+        inFlight.add(client.getUserById(1).subscribe());
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> client.getUserById(2).block());
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatus());
+    }
+
+    @Test
+    void get_whenPendingQueueIsFull_thenServiceUnavailable() {
+        ReactiveUserClient client = client(1, 1);
+        inFlight.add(client.getUserById(1).subscribe());
+        inFlight.add(client.getUserById(2).subscribe());
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> client.getUserById(3).block());
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatus());
+    }
+
+    private ReactiveUserClient client(int maxConnections, int pendingAcquireMaxCount) {
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.getReactive().setMaxConnections(maxConnections);
+        properties.getReactive().setPendingAcquireMaxCount(pendingAcquireMaxCount);
+        properties.getReactive().setPendingAcquireTimeout(Duration.ofMillis(100));
+        connectionProvider = config.connectionProvider(properties);
+        return new ReactiveUserClient("http://localhost:" + server.port(), WebClient.builder(),
+                config.clientHttpConnector(connectionProvider, properties));
+    }
+}
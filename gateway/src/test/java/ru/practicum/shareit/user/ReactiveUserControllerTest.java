@@ -0,0 +1,100 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(controllers = ReactiveUserController.class)
+@ActiveProfiles("reactive")
+class ReactiveUserControllerTest {
+    @Autowired
+    private WebTestClient webTestClient;
+    @MockBean
+    private ReactiveUserClient userClient;
+
+    @Test
+    void getUsers_whenSizeAboveLimit_thenBadRequest() {
+        webTestClient.get().uri("/users?size=101")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(userClient, never()).getAllUsers(any(), any(), any());
+    }
+
+    @Test
+    void getUsers_whenPaged_thenProxyToClient() {
+        when(userClient.getAllUsers(0, 10, null)).thenReturn(Mono.just(ResponseEntity.ok("[]")));
+
+        webTestClient.get().uri("/users?from=0&size=10")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void streamUsers_whenNdjsonAccepted_thenStreamClientBody() {
+        DataBuffer line = DefaultDataBufferFactory.sharedInstance
+                .wrap("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+        when(userClient.streamAllUsers()).thenReturn(Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(Flux.just(line))));
+
+        webTestClient.get().uri("/users")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("{\"id\":1}\n");
+    }
+
+    @Test
+    void addUser_whenNameMissing_thenBadRequest() {
+        webTestClient.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"email\":\"user@email.com\"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").value(containsString("Имя не может быть пустым"));
+
+        verify(userClient, never()).addUser(any());
+    }
+
+    @Test
+    void updateUser_whenOnlyNameGiven_thenProxyWithPathId() {
+        when(userClient.updateUser(any())).thenReturn(Mono.just(ResponseEntity.ok().build()));
+
+        webTestClient.patch().uri("/users/7")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"name\"}")
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(userClient).updateUser(argThat(user -> user.getId() == 7));
+    }
+
+    @Test
+    void deleteUser_whenCalled_thenReturnClientStatus() {
+        when(userClient.deleteUser(7)).thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).build()));
+
+        webTestClient.delete().uri("/users/7")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
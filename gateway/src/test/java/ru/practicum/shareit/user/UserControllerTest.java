@@ -0,0 +1,84 @@
+package ru.practicum.shareit.user;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = UserController.class)
+class UserControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private UserClient userClient;
+
+    @SneakyThrows
+    @Test
+    void getUsers_whenSizeAboveLimit_thenBadRequest() {
+        mockMvc.perform(get("/users").param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        verify(userClient, never()).getAllUsers(any(), any(), any());
+    }
+
+    @SneakyThrows
+    @Test
+    void getUsers_whenPaged_thenProxyToClient() {
+        when(userClient.getAllUsers(0, 10, null)).thenReturn(ResponseEntity.ok("[]"));
+
+        mockMvc.perform(get("/users").param("from", "0").param("size", "10"))
+                .andExpect(status().isOk());
+    }
+
+    @SneakyThrows
+    @Test
+    void addUser_whenNameMissing_thenBadRequest() {
+        mockMvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"user@email.com\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(containsString("Имя не может быть пустым")));
+
+        verify(userClient, never()).addUser(any());
+    }
+
+    @SneakyThrows
+    @Test
+    void updateUser_whenOnlyNameGiven_thenProxyWithPathId() {
+        when(userClient.updateUser(any())).thenReturn(ResponseEntity.ok().build());
+
+        mockMvc.perform(patch("/users/7")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"name\"}"))
+                .andExpect(status().isOk());
+
+        verify(userClient).updateUser(argThat(user -> user.getId() == 7));
+    }
+
+    @SneakyThrows
+    @Test
+    void deleteUser_whenCalled_thenReturnClientStatus() {
+        when(userClient.deleteUser(7)).thenReturn(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+
+        mockMvc.perform(delete("/users/7"))
+                .andExpect(status().isNotFound());
+    }
+}
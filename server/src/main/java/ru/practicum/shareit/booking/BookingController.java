@@ -3,6 +3,7 @@ package ru.practicum.shareit.booking;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.service.BookingService;
@@ -14,6 +15,7 @@ import java.net.URI;
 import java.util.List;
 
 @RestController
+@Validated
 @RequestMapping(path = "/bookings")
 @Slf4j
 @RequiredArgsConstructor
@@ -24,8 +26,10 @@ public class BookingController {
     public ResponseEntity<List<BookingDto>> getBookingsOfUser(@RequestHeader("X-Sharer-User-Id") long userId,
                                                               @RequestParam(defaultValue = "ALL") String state,
                                                               @RequestParam(defaultValue = "0") @Min(0) Integer from,
-                                                              @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size) {
-        return ResponseEntity.ok().body(bookingService.getItemsBookingsOfUser(userId, state, from, size));
+                                                              @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
+                                                              @RequestParam(required = false) String cursor) {
+        var page = bookingService.getItemsBookingsOfUser(userId, state, from, size, cursor);
+        return ResponseEntity.ok().headers(page.headers()).body(page.getContent());
     }
 
     @PostMapping
@@ -40,8 +44,10 @@ public class BookingController {
     public ResponseEntity<List<BookingDto>> getBookingByItemOwner(@RequestHeader("X-Sharer-User-Id") long userId,
                                                                   @RequestParam(defaultValue = "ALL") String state,
                                                                   @RequestParam(defaultValue = "0") @Min(0) Integer from,
-                                                                  @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size) {
-        return ResponseEntity.ok().body(bookingService.getBookingByItemOwner(userId, state, from, size));
+                                                                  @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
+                                                                  @RequestParam(required = false) String cursor) {
+        var page = bookingService.getBookingByItemOwner(userId, state, from, size, cursor);
+        return ResponseEntity.ok().headers(page.headers()).body(page.getContent());
     }
 
     @GetMapping("/{bookingId}")
@@ -2,38 +2,128 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-    List<Booking> findByBookerIdAndEndsIsBefore(Long bookerId, LocalDateTime ends, Pageable pageable);
+    String VIEW = "select new ru.practicum.shareit.booking.dto.BookingView(b.id, b.starts, b.ends, b.status, " +
+            "i.id, i.name, i.description, i.available, b.ownerId, r.id, u.id, u.name, u.email) " +
+            "from Booking b join b.item i left join i.request r join b.booker u ";
 
-    List<Booking> findByBookerIdAndStartsIsAfter(Long bookerId, LocalDateTime starts, Pageable pageable);
+    @Query(VIEW +
+            "where b.booker.id = ?1 " +
+            "and (b.starts < ?2 or (b.starts = ?2 and b.id < ?3)) " +
+            "order by b.starts desc, b.id desc")
+    List<BookingView> findByBookerId(Long bookerId, LocalDateTime cursorStarts, Long cursorId, Pageable pageable);
 
-    List<Booking> findByBookerIdAndStatus(Long bookerId, Status status, Pageable pageable);
+    @Query(VIEW +
+            "where b.booker.id = ?1 and b.ends < ?2 " +
+            "and (b.starts < ?3 or (b.starts = ?3 and b.id < ?4)) " +
+            "order by b.starts desc, b.id desc")
+    List<BookingView> findByBookerIdAndEndsIsBefore(Long bookerId, LocalDateTime ends,
+                                                LocalDateTime cursorStarts, Long cursorId, Pageable pageable);
 
-    List<Booking> findByBookerIdAndStartsIsBeforeAndEndsIsAfter(Long bookerId, LocalDateTime starts,
-                                                                 LocalDateTime ends, Pageable pageable);
+    @Query(VIEW +
+            "where b.booker.id = ?1 and b.starts > ?2 " +
+            "and (b.starts < ?3 or (b.starts = ?3 and b.id < ?4)) " +
+            "order by b.starts desc, b.id desc")
+    List<BookingView> findByBookerIdAndStartsIsAfter(Long bookerId, LocalDateTime starts,
+                                                 LocalDateTime cursorStarts, Long cursorId, Pageable pageable);
 
-    List<Booking> findByItemOwnerIdAndEndsIsBefore(Long bookerId, LocalDateTime ends, Pageable pageable);
+    @Query(VIEW +
+            "where b.booker.id = ?1 and b.status = ?2 " +
+            "and (b.starts < ?3 or (b.starts = ?3 and b.id < ?4)) " +
+            "order by b.starts desc, b.id desc")
+    List<BookingView> findByBookerIdAndStatus(Long bookerId, Status status,
+                                          LocalDateTime cursorStarts, Long cursorId, Pageable pageable);
 
-    List<Booking> findByItemOwnerIdAndStartsIsAfter(Long bookerId, LocalDateTime starts, Pageable pageable);
+    @Query(VIEW +
+            "where b.booker.id = ?1 and b.starts < ?2 and b.ends > ?2 " +
+            "and (b.starts < ?3 or (b.starts = ?3 and b.id < ?4)) " +
+            "order by b.starts desc, b.id desc")
+    List<BookingView> findByBookerIdAndStartsIsBeforeAndEndsIsAfter(Long bookerId, LocalDateTime now,
+                                                                 LocalDateTime cursorStarts, Long cursorId,
+                                                                 Pageable pageable);
 
-    List<Booking> findByItemOwnerIdAndStatus(Long bookerId, Status status, Pageable pageable);
+    @Query(VIEW +
+            "where b.ownerId = ?1 " +
+            "and (b.starts < ?2 or (b.starts = ?2 and b.id < ?3)) " +
+            "order by b.starts desc, b.id desc")
+    List<BookingView> findByOwnerId(Long ownerId, LocalDateTime cursorStarts, Long cursorId, Pageable pageable);
 
-    List<Booking> findByItemOwnerIdAndStartsIsBeforeAndEndsIsAfter(Long bookerId, LocalDateTime starts,
-                                                                   LocalDateTime ends, Pageable pageable);
+    @Query(VIEW +
+            "where b.ownerId = ?1 and b.ends < ?2 " +
+            "and (b.starts < ?3 or (b.starts = ?3 and b.id < ?4)) " +
+            "order by b.starts desc, b.id desc")
+    List<BookingView> findByOwnerIdAndEndsIsBefore(Long ownerId, LocalDateTime ends,
+                                                   LocalDateTime cursorStarts, Long cursorId, Pageable pageable);
 
-    List<Booking> findByBookerIdOrderByStartsDesc(Long bookerId, Pageable pageable);
+    @Query(VIEW +
+            "where b.ownerId = ?1 and b.starts > ?2 " +
+            "and (b.starts < ?3 or (b.starts = ?3 and b.id < ?4)) " +
+            "order by b.starts desc, b.id desc")
+    List<BookingView> findByOwnerIdAndStartsIsAfter(Long ownerId, LocalDateTime starts,
+                                                    LocalDateTime cursorStarts, Long cursorId, Pageable pageable);
 
-    List<Booking> findBookingByItemId(Long itemId);
+    @Query(VIEW +
+            "where b.ownerId = ?1 and b.status = ?2 " +
+            "and (b.starts < ?3 or (b.starts = ?3 and b.id < ?4)) " +
+            "order by b.starts desc, b.id desc")
+    List<BookingView> findByOwnerIdAndStatus(Long ownerId, Status status,
+                                             LocalDateTime cursorStarts, Long cursorId, Pageable pageable);
 
-    List<Booking> findBookingByItemIdAndStatus(Long itemId, Status status);
+    @Query(VIEW +
+            "where b.ownerId = ?1 and b.starts < ?2 and b.ends > ?2 " +
+            "and (b.starts < ?3 or (b.starts = ?3 and b.id < ?4)) " +
+            "order by b.starts desc, b.id desc")
+    List<BookingView> findByOwnerIdAndStartsIsBeforeAndEndsIsAfter(Long ownerId, LocalDateTime now,
+                                                                   LocalDateTime cursorStarts, Long cursorId,
+                                                                   Pageable pageable);
 
-    List<Booking> findByItemOwnerIdOrderByStartsDesc(Long ownerId, Pageable pageable);
+    boolean existsByItemIdAndBookerIdAndStatusAndStartsBefore(Long itemId, Long bookerId, Status status,
+                                                              LocalDateTime starts);
+
+    @Query("select b.ends from Booking b " +
+            "where b.item.id = ?1 and b.status in ?2 and b.starts < ?3 " +
+            "order by b.starts desc, b.id desc")
+    List<LocalDateTime> findLatestEndsByItemIdAndStatusInAndStartsBefore(Long itemId, Collection<Status> statuses,
+                                                                         LocalDateTime starts, Pageable pageable);
+
+    Optional<Booking> findFirstByItemIdAndStatusAndStartsBeforeOrderByStartsDesc(Long itemId, Status status,
+                                                                                LocalDateTime starts);
+
+    Optional<Booking> findFirstByItemIdAndStatusAndStartsAfterOrderByStartsAsc(Long itemId, Status status,
+                                                                              LocalDateTime starts);
+
+    @Query(value = "select b.* from items i cross join lateral (" +
+            "(select l.* from bookings l " +
+            "where l.item_id = i.id and l.status = 'APPROVED' and l.starts < ?2 " +
+            "order by l.starts desc, l.id desc limit 1) " +
+            "union all " +
+            "(select n.* from bookings n " +
+            "where n.item_id = i.id and n.status = 'APPROVED' and n.starts > ?2 " +
+            "order by n.starts, n.id limit 1)) b " +
+            "where i.id in ?1",
+            nativeQuery = true)
+    List<Booking> findLastAndNextApprovedBookings(Collection<Long> itemIds, LocalDateTime now);
+
+    @Query(value = "select b.* from bookings b " +
+            "where b.item_id in ?1 and b.status = 'APPROVED' " +
+            "and (b.id = (select l.id from bookings l " +
+            "where l.item_id = b.item_id and l.status = 'APPROVED' and l.starts < ?2 " +
+            "order by l.starts desc, l.id desc limit 1) " +
+            "or b.id = (select n.id from bookings n " +
+            "where n.item_id = b.item_id and n.status = 'APPROVED' and n.starts > ?2 " +
+            "order by n.starts, n.id limit 1))",
+            nativeQuery = true)
+    List<Booking> findLastAndNextApprovedBookingsPortable(Collection<Long> itemIds, LocalDateTime now);
 }
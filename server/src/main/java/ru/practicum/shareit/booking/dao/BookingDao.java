@@ -0,0 +1,66 @@
+package ru.practicum.shareit.booking.dao;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BookingDao {
+    String NO_OVERLAP_CONSTRAINT = "bookings_no_overlap";
+
+    Booking addBooking(Booking booking);
+
+    Booking updateBooking(Booking booking);
+
+    Booking getBookingById(long id);
+
+    List<BookingView> findByBookerId(long bookerId, LocalDateTime cursorStarts, long cursorId, Pageable pageable);
+
+    List<BookingView> findByBookerIdAndEndsIsBefore(long bookerId, LocalDateTime ends,
+                                                    LocalDateTime cursorStarts, long cursorId, Pageable pageable);
+
+    List<BookingView> findByBookerIdAndStartsIsAfter(long bookerId, LocalDateTime starts,
+                                                     LocalDateTime cursorStarts, long cursorId, Pageable pageable);
+
+    List<BookingView> findByBookerIdAndStatus(long bookerId, Status status,
+                                              LocalDateTime cursorStarts, long cursorId, Pageable pageable);
+
+    List<BookingView> findByBookerIdAndStartsIsBeforeAndEndsIsAfter(long bookerId, LocalDateTime now,
+                                                                    LocalDateTime cursorStarts, long cursorId,
+                                                                    Pageable pageable);
+
+    List<BookingView> findByOwnerId(long ownerId, LocalDateTime cursorStarts, long cursorId, Pageable pageable);
+
+    List<BookingView> findByOwnerIdAndEndsIsBefore(long ownerId, LocalDateTime ends,
+                                                   LocalDateTime cursorStarts, long cursorId, Pageable pageable);
+
+    List<BookingView> findByOwnerIdAndStartsIsAfter(long ownerId, LocalDateTime starts,
+                                                    LocalDateTime cursorStarts, long cursorId, Pageable pageable);
+
+    List<BookingView> findByOwnerIdAndStatus(long ownerId, Status status,
+                                             LocalDateTime cursorStarts, long cursorId, Pageable pageable);
+
+    List<BookingView> findByOwnerIdAndStartsIsBeforeAndEndsIsAfter(long ownerId, LocalDateTime now,
+                                                                   LocalDateTime cursorStarts, long cursorId,
+                                                                   Pageable pageable);
+
+    boolean existsByItemIdAndBookerIdAndStatusAndStartsBefore(long itemId, long bookerId, Status status,
+                                                              LocalDateTime starts);
+
+    boolean existsByItemIdAndStatusInAndStartsBeforeAndEndsAfter(long itemId, Collection<Status> statuses,
+                                                                 LocalDateTime ends, LocalDateTime starts);
+
+    Optional<Booking> findFirstByItemIdAndStatusAndStartsBeforeOrderByStartsDesc(long itemId, Status status,
+                                                                                LocalDateTime starts);
+
+    Optional<Booking> findFirstByItemIdAndStatusAndStartsAfterOrderByStartsAsc(long itemId, Status status,
+                                                                              LocalDateTime starts);
+
+    List<Booking> findLastAndNextApprovedBookings(Collection<Long> itemIds, LocalDateTime now);
+
+}
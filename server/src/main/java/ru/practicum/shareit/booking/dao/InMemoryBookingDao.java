@@ -0,0 +1,390 @@
+package ru.practicum.shareit.booking.dao;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.dao.ItemDao;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.storage.ChangeLog;
+import ru.practicum.shareit.storage.ChangeLogFactory;
+import ru.practicum.shareit.user.dao.UserDao;
+import ru.practicum.shareit.user.dao.UserReferences;
+import ru.practicum.shareit.user.model.User;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Repository
+@Profile("memory")
+@Slf4j
+public class InMemoryBookingDao implements BookingDao, UserReferences {
+    private static final Comparator<BookingRecord> NEWEST_FIRST = Comparator.comparing(BookingRecord::getStarts)
+            .thenComparingLong(BookingRecord::getId)
+            .reversed();
+    private static final Set<Status> ACTIVE_STATUSES = EnumSet.of(Status.WAITING, Status.APPROVED);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, BookingRecord> bookings = new HashMap<>();
+    private final Map<Long, NavigableSet<BookingRecord>> bookingsByBooker = new HashMap<>();
+    private final Map<Long, NavigableSet<BookingRecord>> bookingsByOwner = new HashMap<>();
+    private final Map<Long, NavigableSet<BookingRecord>> bookingsByItem = new HashMap<>();
+    private final AtomicLong bookingId = new AtomicLong();
+    private final ItemDao itemDao;
+    private final UserDao userDao;
+    private final ChangeLog<BookingRecord> changeLog;
+
+    public InMemoryBookingDao(ItemDao itemDao, UserDao userDao, ChangeLogFactory changeLogs) {
+        this.itemDao = itemDao;
+        this.userDao = userDao;
+        changeLog = changeLogs.open("bookings", BookingRecord.class, BookingRecord::getId);
+        for (BookingRecord record : changeLog.load(this::records).values()) {
+            put(record);
+            bookingId.accumulateAndGet(record.getId(), Math::max);
+        }
+    }
+
+    @Override
+    public Booking addBooking(Booking booking) {
+        booking.setId(bookingId.incrementAndGet());
+        BookingRecord record = toRecord(booking);
+        changeLog.write(() -> {
+            lock.writeLock().lock();
+            try {
+                if (ACTIVE_STATUSES.contains(record.getStatus()) && overlaps(record.getItemId(), ACTIVE_STATUSES,
+                        record.getStarts(), record.getEnds())) {
+                    throw new DataIntegrityViolationException(NO_OVERLAP_CONSTRAINT
+                            + ": вещь уже забронирована на эти даты!");
+                }
+                put(record);
+                changeLog.put(record);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+        log.info("Добавлено новое бронирование: {}", booking.getId());
+        return booking;
+    }
+
+    @Override
+    public Booking updateBooking(Booking booking) {
+        store(toRecord(booking));
+        log.info("Бронирование {} обновлено, статус {}", booking.getId(), booking.getStatus());
+        return booking;
+    }
+
+    @Override
+    public Booking getBookingById(long id) {
+        BookingRecord record;
+        lock.readLock().lock();
+        try {
+            record = bookings.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return record == null ? null : toBooking(record);
+    }
+
+    @Override
+    public List<BookingView> findByBookerId(long bookerId, LocalDateTime cursorStarts, long cursorId,
+                                            Pageable pageable) {
+        return page(bookingsByBooker, bookerId, probe(cursorStarts, cursorId), null, record -> true, pageable);
+    }
+
+    @Override
+    public List<BookingView> findByBookerIdAndEndsIsBefore(long bookerId, LocalDateTime ends,
+                                                           LocalDateTime cursorStarts, long cursorId,
+                                                           Pageable pageable) {
+        return page(bookingsByBooker, bookerId, startedBefore(ends, cursorStarts, cursorId), null,
+                record -> record.getEnds().isBefore(ends), pageable);
+    }
+
+    @Override
+    public List<BookingView> findByBookerIdAndStartsIsAfter(long bookerId, LocalDateTime starts,
+                                                            LocalDateTime cursorStarts, long cursorId,
+                                                            Pageable pageable) {
+        return page(bookingsByBooker, bookerId, probe(cursorStarts, cursorId), probe(starts, Long.MAX_VALUE),
+                record -> true, pageable);
+    }
+
+    @Override
+    public List<BookingView> findByBookerIdAndStatus(long bookerId, Status status, LocalDateTime cursorStarts,
+                                                     long cursorId, Pageable pageable) {
+        return page(bookingsByBooker, bookerId, probe(cursorStarts, cursorId), null,
+                record -> record.getStatus() == status, pageable);
+    }
+
+    @Override
+    public List<BookingView> findByBookerIdAndStartsIsBeforeAndEndsIsAfter(long bookerId, LocalDateTime now,
+                                                                           LocalDateTime cursorStarts,
+                                                                           long cursorId, Pageable pageable) {
+        return page(bookingsByBooker, bookerId, startedBefore(now, cursorStarts, cursorId), null,
+                record -> record.getEnds().isAfter(now), pageable);
+    }
+
+    @Override
+    public List<BookingView> findByOwnerId(long ownerId, LocalDateTime cursorStarts, long cursorId,
+                                           Pageable pageable) {
+        return page(bookingsByOwner, ownerId, probe(cursorStarts, cursorId), null, record -> true, pageable);
+    }
+
+    @Override
+    public List<BookingView> findByOwnerIdAndEndsIsBefore(long ownerId, LocalDateTime ends,
+                                                          LocalDateTime cursorStarts, long cursorId,
+                                                          Pageable pageable) {
+        return page(bookingsByOwner, ownerId, startedBefore(ends, cursorStarts, cursorId), null,
+                record -> record.getEnds().isBefore(ends), pageable);
+    }
+
+    @Override
+    public List<BookingView> findByOwnerIdAndStartsIsAfter(long ownerId, LocalDateTime starts,
+                                                           LocalDateTime cursorStarts, long cursorId,
+                                                           Pageable pageable) {
+        return page(bookingsByOwner, ownerId, probe(cursorStarts, cursorId), probe(starts, Long.MAX_VALUE),
+                record -> true, pageable);
+    }
+
+    @Override
+    public List<BookingView> findByOwnerIdAndStatus(long ownerId, Status status, LocalDateTime cursorStarts,
+                                                    long cursorId, Pageable pageable) {
+        return page(bookingsByOwner, ownerId, probe(cursorStarts, cursorId), null,
+                record -> record.getStatus() == status, pageable);
+    }
+
+    @Override
+    public List<BookingView> findByOwnerIdAndStartsIsBeforeAndEndsIsAfter(long ownerId, LocalDateTime now,
+                                                                          LocalDateTime cursorStarts,
+                                                                          long cursorId, Pageable pageable) {
+        return page(bookingsByOwner, ownerId, startedBefore(now, cursorStarts, cursorId), null,
+                record -> record.getEnds().isAfter(now), pageable);
+    }
+
+    @Override
+    public boolean existsByItemIdAndBookerIdAndStatusAndStartsBefore(long itemId, long bookerId, Status status,
+                                                                     LocalDateTime starts) {
+        return first(itemId, status, starts, false, record -> record.getBookerId() == bookerId) != null;
+    }
+
+    @Override
+    public boolean existsByItemIdAndStatusInAndStartsBeforeAndEndsAfter(long itemId, Collection<Status> statuses,
+                                                                        LocalDateTime ends, LocalDateTime starts) {
+        return overlaps(itemId, statuses, starts, ends);
+    }
+
+    @Override
+    public Optional<Booking> findFirstByItemIdAndStatusAndStartsBeforeOrderByStartsDesc(long itemId, Status status,
+                                                                                       LocalDateTime starts) {
+        return Optional.ofNullable(first(itemId, status, starts, false, record -> true)).map(this::toBooking);
+    }
+
+    @Override
+    public Optional<Booking> findFirstByItemIdAndStatusAndStartsAfterOrderByStartsAsc(long itemId, Status status,
+                                                                                     LocalDateTime starts) {
+        return Optional.ofNullable(first(itemId, status, starts, true, record -> true)).map(this::toBooking);
+    }
+
+    @Override
+    public List<Booking> findLastAndNextApprovedBookings(Collection<Long> itemIds, LocalDateTime now) {
+        List<Booking> result = new ArrayList<>();
+        for (Long itemId : itemIds) {
+            findFirstByItemIdAndStatusAndStartsBeforeOrderByStartsDesc(itemId, Status.APPROVED, now)
+                    .ifPresent(result::add);
+            findFirstByItemIdAndStatusAndStartsAfterOrderByStartsAsc(itemId, Status.APPROVED, now)
+                    .ifPresent(result::add);
+        }
+        return result;
+    }
+
+    @Override
+    public void deleteByUserId(long userId) {
+        changeLog.write(() -> {
+            lock.writeLock().lock();
+            try {
+                List<BookingRecord> removed = new ArrayList<>();
+                removed.addAll(bookingsByBooker.getOrDefault(userId, Collections.emptyNavigableSet()));
+                removed.addAll(bookingsByOwner.getOrDefault(userId, Collections.emptyNavigableSet()));
+                for (BookingRecord record : removed) {
+                    if (bookings.remove(record.getId()) != null) {
+                        remove(bookingsByBooker, record.getBookerId(), record);
+                        remove(bookingsByOwner, record.getOwnerId(), record);
+                        remove(bookingsByItem, record.getItemId(), record);
+                        changeLog.delete(record.getId());
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        changeLog.close();
+    }
+
+    private List<BookingView> page(Map<Long, NavigableSet<BookingRecord>> index, long key, BookingRecord after,
+                                   BookingRecord before, Predicate<BookingRecord> filter, Pageable pageable) {
+        List<BookingRecord> records = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            NavigableSet<BookingRecord> posting = index.get(key);
+            if (posting == null || before != null && NEWEST_FIRST.compare(before, after) <= 0) {
+                return new ArrayList<>();
+            }
+            NavigableSet<BookingRecord> range = before == null
+                    ? posting.tailSet(after, false)
+                    : posting.subSet(after, false, before, false);
+            long skip = pageable.getOffset();
+            for (BookingRecord record : range) {
+                if (!filter.test(record)) {
+                    continue;
+                }
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                records.add(record);
+                if (records.size() == pageable.getPageSize()) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return records.stream()
+                .map(this::toBooking)
+                .map(InMemoryBookingDao::toView)
+                .collect(Collectors.toList());
+    }
+
+    private BookingRecord first(long itemId, Status status, LocalDateTime starts, boolean startsAfter,
+                                Predicate<BookingRecord> filter) {
+        lock.readLock().lock();
+        try {
+            NavigableSet<BookingRecord> posting = bookingsByItem.get(itemId);
+            if (posting == null) {
+                return null;
+            }
+            NavigableSet<BookingRecord> range = startsAfter
+                    ? posting.headSet(probe(starts, Long.MAX_VALUE), false).descendingSet()
+                    : posting.tailSet(probe(starts, Long.MIN_VALUE), false);
+            for (BookingRecord record : range) {
+                if ((status == null || record.getStatus() == status) && filter.test(record)) {
+                    return record;
+                }
+            }
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean overlaps(long itemId, Collection<Status> statuses, LocalDateTime starts, LocalDateTime ends) {
+        BookingRecord latest = first(itemId, null, ends, false, record -> statuses.contains(record.getStatus()));
+        return latest != null && latest.getEnds().isAfter(starts);
+    }
+
+    private void store(BookingRecord record) {
+        changeLog.write(() -> {
+            lock.writeLock().lock();
+            try {
+                put(record);
+                changeLog.put(record);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private void put(BookingRecord record) {
+        BookingRecord previous = bookings.put(record.getId(), record);
+        if (previous != null) {
+            remove(bookingsByBooker, previous.getBookerId(), previous);
+            remove(bookingsByOwner, previous.getOwnerId(), previous);
+            remove(bookingsByItem, previous.getItemId(), previous);
+        }
+        bookingsByBooker.computeIfAbsent(record.getBookerId(), key -> new TreeSet<>(NEWEST_FIRST)).add(record);
+        bookingsByOwner.computeIfAbsent(record.getOwnerId(), key -> new TreeSet<>(NEWEST_FIRST)).add(record);
+        bookingsByItem.computeIfAbsent(record.getItemId(), key -> new TreeSet<>(NEWEST_FIRST)).add(record);
+    }
+
+    private static void remove(Map<Long, NavigableSet<BookingRecord>> index, long key, BookingRecord record) {
+        NavigableSet<BookingRecord> posting = index.get(key);
+        if (posting != null && posting.remove(record) && posting.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private List<BookingRecord> records() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(bookings.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static BookingRecord startedBefore(LocalDateTime time, LocalDateTime cursorStarts, long cursorId) {
+        BookingRecord cursor = probe(cursorStarts, cursorId);
+        BookingRecord bound = probe(time, Long.MIN_VALUE);
+        return NEWEST_FIRST.compare(cursor, bound) >= 0 ? cursor : bound;
+    }
+
+    private static BookingRecord probe(LocalDateTime starts, long id) {
+        return new BookingRecord(id, starts, null, 0, 0, 0, null);
+    }
+
+    private static BookingRecord toRecord(Booking booking) {
+        return new BookingRecord(booking.getId(), booking.getStarts(), booking.getEnds(), booking.getItem().getId(),
+                booking.getBooker().getId(), booking.getOwnerId(), booking.getStatus());
+    }
+
+    private Booking toBooking(BookingRecord record) {
+        Item item = itemDao.getItemById(record.getItemId());
+        User booker = userDao.getUserById(record.getBookerId());
+        return Booking.builder()
+                .id(record.getId())
+                .starts(record.getStarts())
+                .ends(record.getEnds())
+                .item(item != null ? item : Item.builder().id(record.getItemId()).build())
+                .booker(booker != null ? booker : User.builder().id(record.getBookerId()).build())
+                .ownerId(record.getOwnerId())
+                .status(record.getStatus())
+                .build();
+    }
+
+    private static BookingView toView(Booking booking) {
+        Item item = booking.getItem();
+        User booker = booking.getBooker();
+        return new BookingView(booking.getId(), booking.getStarts(), booking.getEnds(), booking.getStatus(),
+                item.getId(), item.getName(), item.getDescription(), item.isAvailable(), booking.getOwnerId(),
+                item.getRequest() == null ? null : item.getRequest().getId(),
+                booker.getId(), booker.getName(), booker.getEmail());
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class BookingRecord {
+        private long id;
+        private LocalDateTime starts;
+        private LocalDateTime ends;
+        private long itemId;
+        private long bookerId;
+        private long ownerId;
+        private Status status;
+    }
+}
@@ -0,0 +1,140 @@
+package ru.practicum.shareit.booking.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Profile("!memory")
+@RequiredArgsConstructor
+public class JpaBookingDao implements BookingDao {
+    private final BookingRepository bookingRepository;
+    @Value("${shareit.sql.lateral-joins:true}")
+    private boolean lateralJoins;
+
+    @Override
+    public Booking addBooking(Booking booking) {
+        return bookingRepository.save(booking);
+    }
+
+    @Override
+    public Booking updateBooking(Booking booking) {
+        return bookingRepository.save(booking);
+    }
+
+    @Override
+    public Booking getBookingById(long id) {
+        return bookingRepository.findById(id).orElse(null);
+    }
+
+    @Override
+    public List<BookingView> findByBookerId(long bookerId, LocalDateTime cursorStarts, long cursorId,
+                                            Pageable pageable) {
+        return bookingRepository.findByBookerId(bookerId, cursorStarts, cursorId, pageable);
+    }
+
+    @Override
+    public List<BookingView> findByBookerIdAndEndsIsBefore(long bookerId, LocalDateTime ends,
+                                                           LocalDateTime cursorStarts, long cursorId,
+                                                           Pageable pageable) {
+        return bookingRepository.findByBookerIdAndEndsIsBefore(bookerId, ends, cursorStarts, cursorId, pageable);
+    }
+
+    @Override
+    public List<BookingView> findByBookerIdAndStartsIsAfter(long bookerId, LocalDateTime starts,
+                                                            LocalDateTime cursorStarts, long cursorId,
+                                                            Pageable pageable) {
+        return bookingRepository.findByBookerIdAndStartsIsAfter(bookerId, starts, cursorStarts, cursorId, pageable);
+    }
+
+    @Override
+    public List<BookingView> findByBookerIdAndStatus(long bookerId, Status status, LocalDateTime cursorStarts,
+                                                     long cursorId, Pageable pageable) {
+        return bookingRepository.findByBookerIdAndStatus(bookerId, status, cursorStarts, cursorId, pageable);
+    }
+
+    @Override
+    public List<BookingView> findByBookerIdAndStartsIsBeforeAndEndsIsAfter(long bookerId, LocalDateTime now,
+                                                                           LocalDateTime cursorStarts, long cursorId,
+                                                                           Pageable pageable) {
+        return bookingRepository.findByBookerIdAndStartsIsBeforeAndEndsIsAfter(bookerId, now, cursorStarts, cursorId,
+                pageable);
+    }
+
+    @Override
+    public List<BookingView> findByOwnerId(long ownerId, LocalDateTime cursorStarts, long cursorId, Pageable pageable) {
+        return bookingRepository.findByOwnerId(ownerId, cursorStarts, cursorId, pageable);
+    }
+
+    @Override
+    public List<BookingView> findByOwnerIdAndEndsIsBefore(long ownerId, LocalDateTime ends, LocalDateTime cursorStarts,
+                                                          long cursorId, Pageable pageable) {
+        return bookingRepository.findByOwnerIdAndEndsIsBefore(ownerId, ends, cursorStarts, cursorId, pageable);
+    }
+
+    @Override
+    public List<BookingView> findByOwnerIdAndStartsIsAfter(long ownerId, LocalDateTime starts,
+                                                           LocalDateTime cursorStarts, long cursorId,
+                                                           Pageable pageable) {
+        return bookingRepository.findByOwnerIdAndStartsIsAfter(ownerId, starts, cursorStarts, cursorId, pageable);
+    }
+
+    @Override
+    public List<BookingView> findByOwnerIdAndStatus(long ownerId, Status status, LocalDateTime cursorStarts,
+                                                    long cursorId, Pageable pageable) {
+        return bookingRepository.findByOwnerIdAndStatus(ownerId, status, cursorStarts, cursorId, pageable);
+    }
+
+    @Override
+    public List<BookingView> findByOwnerIdAndStartsIsBeforeAndEndsIsAfter(long ownerId, LocalDateTime now,
+                                                                          LocalDateTime cursorStarts, long cursorId,
+                                                                          Pageable pageable) {
+        return bookingRepository.findByOwnerIdAndStartsIsBeforeAndEndsIsAfter(ownerId, now, cursorStarts, cursorId,
+                pageable);
+    }
+
+    @Override
+    public boolean existsByItemIdAndBookerIdAndStatusAndStartsBefore(long itemId, long bookerId, Status status,
+                                                                     LocalDateTime starts) {
+        return bookingRepository.existsByItemIdAndBookerIdAndStatusAndStartsBefore(itemId, bookerId, status, starts);
+    }
+
+    @Override
+    public boolean existsByItemIdAndStatusInAndStartsBeforeAndEndsAfter(long itemId, Collection<Status> statuses,
+                                                                        LocalDateTime ends, LocalDateTime starts) {
+        return bookingRepository.findLatestEndsByItemIdAndStatusInAndStartsBefore(itemId, statuses, ends,
+                        PageRequest.of(0, 1)).stream()
+                .anyMatch(latestEnds -> latestEnds.isAfter(starts));
+    }
+
+    @Override
+    public Optional<Booking> findFirstByItemIdAndStatusAndStartsBeforeOrderByStartsDesc(long itemId, Status status,
+                                                                                        LocalDateTime starts) {
+        return bookingRepository.findFirstByItemIdAndStatusAndStartsBeforeOrderByStartsDesc(itemId, status, starts);
+    }
+
+    @Override
+    public Optional<Booking> findFirstByItemIdAndStatusAndStartsAfterOrderByStartsAsc(long itemId, Status status,
+                                                                                      LocalDateTime starts) {
+        return bookingRepository.findFirstByItemIdAndStatusAndStartsAfterOrderByStartsAsc(itemId, status, starts);
+    }
+
+    @Override
+    public List<Booking> findLastAndNextApprovedBookings(Collection<Long> itemIds, LocalDateTime now) {
+        return lateralJoins
+                ? bookingRepository.findLastAndNextApprovedBookings(itemIds, now)
+                : bookingRepository.findLastAndNextApprovedBookingsPortable(itemIds, now);
+    }
+}
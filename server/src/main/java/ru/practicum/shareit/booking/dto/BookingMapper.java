@@ -4,8 +4,9 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.ItemMapper;
 
-@Mapper
+@Mapper(uses = ItemMapper.class)
 public interface BookingMapper {
     BookingMapper INSTANCE = Mappers.getMapper(BookingMapper.class);
 
@@ -23,4 +24,17 @@ public interface BookingMapper {
     @Mapping(target = "end", source = "booking.ends")
     @Mapping(target = "itemId", source = "booking.item.id")
     BookingResponseDto toBookingResponseDto(Booking booking);
+
+    @Mapping(target = "start", source = "starts")
+    @Mapping(target = "end", source = "ends")
+    @Mapping(target = "item.id", source = "itemId")
+    @Mapping(target = "item.name", source = "itemName")
+    @Mapping(target = "item.description", source = "itemDescription")
+    @Mapping(target = "item.available", source = "itemAvailable")
+    @Mapping(target = "item.ownerId", source = "itemOwnerId")
+    @Mapping(target = "item.requestId", source = "itemRequestId")
+    @Mapping(target = "booker.id", source = "bookerId")
+    @Mapping(target = "booker.name", source = "bookerName")
+    @Mapping(target = "booker.email", source = "bookerEmail")
+    BookingDto toBookingDto(BookingView view);
 }
\ No newline at end of file
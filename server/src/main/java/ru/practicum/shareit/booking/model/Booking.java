@@ -30,6 +30,8 @@ public class Booking {
     @ManyToOne
     @JoinColumn(name = "booker_id", nullable = false)
     private User booker;
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
     @Enumerated(EnumType.STRING)
     @Column(name = "status")
     private Status status;
@@ -1,8 +1,7 @@
 package ru.practicum.shareit.booking.service;
 
 import ru.practicum.shareit.booking.dto.BookingDto;
-
-import java.util.List;
+import ru.practicum.shareit.pagination.CursorPage;
 
 public interface BookingService {
     BookingDto addBooking(long userId, BookingDto bookingDto);
@@ -11,7 +10,7 @@ public interface BookingService {
 
     BookingDto getBooking(long userId, long bookingId);
 
-    List<BookingDto> getItemsBookingsOfUser(long userId, String state, int from, int size);
+    CursorPage<BookingDto> getItemsBookingsOfUser(long userId, String state, int from, int size, String cursor);
 
-    List<BookingDto> getBookingByItemOwner(long userId, String state, int from, int size);
+    CursorPage<BookingDto> getBookingByItemOwner(long userId, String state, int from, int size, String cursor);
 }
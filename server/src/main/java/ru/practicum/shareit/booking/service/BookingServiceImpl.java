@@ -2,21 +2,25 @@ package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dao.BookingDao;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.State;
 import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.ObjectNotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.exception.WrongStatusException;
-import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.dao.ItemDao;
 import ru.practicum.shareit.item.dto.ItemMapper;
-import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.user.dao.UserDao;
 import ru.practicum.shareit.user.dto.UserMapper;
 
 import java.time.LocalDateTime;
@@ -27,36 +31,48 @@ import java.util.List;
 @Slf4j
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
-    private final BookingRepository bookingRepository;
-    private final ItemRepository itemRepository;
-    private final UserRepository userRepository;
-    private final Sort sort = Sort.by(Sort.Direction.DESC, "starts");
+    private final BookingDao bookingDao;
+    private final ItemDao itemDao;
+    private final UserDao userDao;
+    private static final List<Status> ACTIVE_STATUSES = List.of(Status.WAITING, Status.APPROVED);
 
     @Override
     public BookingDto addBooking(long userId, BookingDto bookingDto) {
         validateTimeBooking(bookingDto);
         var booking = BookingMapper.INSTANCE.toBooking(bookingDto);
-        var userOptional = userRepository.findById(userId);
+        var userOptional = userDao.findSnapshotById(userId);
         if (userOptional.isEmpty()) {
             throw new ObjectNotFoundException("Пользователь не найден");
         }
-        var user = userOptional.get();
-        var itemOptional = itemRepository.findById(bookingDto.getItemId());
-        if (itemOptional.isEmpty()) {
+        var user = UserMapper.INSTANCE.toUser(userOptional.get());
+        var item = itemDao.getItemById(bookingDto.getItemId());
+        if (item == null) {
             throw new ObjectNotFoundException("Вещь не существует");
         }
-        var item = itemOptional.get();
         if (!item.isAvailable()) {
             throw new ValidationException("Данная вещь не доступна для бронирования!");
         }
         if (item.getOwner().getId() == userId) {
             throw new ObjectNotFoundException("Зачем самому себе брать вещь в аренду! :)");
         }
+        if (bookingDao.existsByItemIdAndStatusInAndStartsBeforeAndEndsAfter(item.getId(),
+                ACTIVE_STATUSES, bookingDto.getEnd(), bookingDto.getStart())) {
+            throw new ConflictException("Вещь уже забронирована на эти даты!");
+        }
         booking.setBooker(user);
         booking.setItem(item);
+        booking.setOwnerId(item.getOwner().getId());
         booking.setStatus(Status.WAITING);
         log.info("Добавлна новый запрос от пользователя; {}", booking.getBooker().getName());
-        var bookingTemp = bookingRepository.save(booking);
+        Booking bookingTemp;
+        try {
+            bookingTemp = bookingDao.addBooking(booking);
+        } catch (DataIntegrityViolationException e) {
+            if (!violates(e, BookingDao.NO_OVERLAP_CONSTRAINT)) {
+                throw e;
+            }
+            throw new ConflictException("Вещь уже забронирована на эти даты!");
+        }
         var result = BookingMapper.INSTANCE.toBookingDto(bookingTemp);
         result.setItem(ItemMapper.INSTANCE.toItemDto(item));
         result.setBooker(UserMapper.INSTANCE.toUserDto(user));
@@ -65,144 +81,162 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public BookingDto approved(long userId, long bookingId, boolean available) {
-        var booking = bookingRepository.findById(bookingId);
-        if (booking.isEmpty()) {
+        var booking = bookingDao.getBookingById(bookingId);
+        if (booking == null) {
             throw new ObjectNotFoundException("Такого бронирования не существует!");
         }
-        if (booking.get().getItem().getOwner().getId() != (userId)) {
+        if (booking.getOwnerId() != userId) {
             throw new ObjectNotFoundException("id вещи пользователя не совпадают с id владелььца вещи");
         }
-        Status status = booking.get().getStatus();
+        Status status = booking.getStatus();
         if (!status.equals(Status.WAITING)) {
             throw new ValidationException("Статус нельзя изменить!");
         }
         if (available) {
-            booking.get().setStatus(Status.APPROVED);
+            booking.setStatus(Status.APPROVED);
         } else {
-            booking.get().setStatus(Status.REJECTED);
+            booking.setStatus(Status.REJECTED);
         }
-        var result = BookingMapper.INSTANCE.toBookingDto(bookingRepository.save(booking.get()));
-        result.setItem(ItemMapper.INSTANCE.toItemDto(booking.get().getItem()));
-        result.setBooker(UserMapper.INSTANCE.toUserDto(booking.get().getBooker()));
+        var result = BookingMapper.INSTANCE.toBookingDto(bookingDao.updateBooking(booking));
+        result.setItem(ItemMapper.INSTANCE.toItemDto(booking.getItem()));
+        result.setBooker(UserMapper.INSTANCE.toUserDto(booking.getBooker()));
         return result;
     }
 
     @Override
     public BookingDto getBooking(long userId, long bookingId) {
-        var booking = bookingRepository.findById(bookingId);
-        if (booking.isEmpty()) {
+        var booking = bookingDao.getBookingById(bookingId);
+        if (booking == null) {
             throw new ObjectNotFoundException("Такого бронирования не существует!");
         }
-        if (booking.get().getBooker().getId() != (userId) &&
-                booking.get().getItem().getOwner().getId() != (userId)) {
+        if (booking.getBooker().getId() != (userId) &&
+                booking.getOwnerId() != userId) {
             throw new ObjectNotFoundException("Данные бронирования открыты автору бронирования или владельцу вещи!");
         }
-        var result = BookingMapper.INSTANCE.toBookingDto(bookingRepository.findById(bookingId).get());
-        result.setItem(ItemMapper.INSTANCE.toItemDto(booking.get().getItem()));
-        result.setBooker(UserMapper.INSTANCE.toUserDto(booking.get().getBooker()));
+        var result = BookingMapper.INSTANCE.toBookingDto(booking);
+        result.setItem(ItemMapper.INSTANCE.toItemDto(booking.getItem()));
+        result.setBooker(UserMapper.INSTANCE.toUserDto(booking.getBooker()));
         return result;
     }
 
     @Override
-    public List<BookingDto> getItemsBookingsOfUser(long userId, String state, int from, int size) {
+    public CursorPage<BookingDto> getItemsBookingsOfUser(long userId, String state, int from, int size,
+                                                         String cursor) {
         if (from < 0) {
             throw new javax.validation.ValidationException("Отрицательное значение фром");
         }
-        int offsets = from > 0 ? from / size : 0;
-        PageRequest page = PageRequest.of(offsets, size);
-        PageRequest pageWithSort = PageRequest.of(offsets, size, sort);
-        State stateEnum;
-        try {
-            stateEnum = State.valueOf(state);
-        } catch (Exception ex) {
-            throw new WrongStatusException("Unknown state: UNSUPPORTED_STATUS");
-        }
-        var user = userRepository.findById(userId);
+        State stateEnum = parseState(state);
+        var user = userDao.findSnapshotById(userId);
         if (user.isEmpty()) {
             throw new ObjectNotFoundException("Пользователь не найден");
         }
-        List<Booking> bookings;
+        Cursor position = Cursor.page(cursor, from, size, Cursor.LATEST, Long.MAX_VALUE);
+        LocalDateTime cursorStarts = position.getDateTime(0);
+        long cursorId = position.getLong(1);
+        Pageable page = position.getPageable();
+        List<BookingView> bookings;
         LocalDateTime time = LocalDateTime.now();
         switch (stateEnum) {
             case PAST:
-                bookings = bookingRepository.findByBookerIdAndEndsIsBefore(userId, time, pageWithSort);
+                bookings = bookingDao.findByBookerIdAndEndsIsBefore(userId, time,
+                        cursorStarts, cursorId, page);
                 break;
             case FUTURE:
-                bookings = bookingRepository.findByBookerIdAndStartsIsAfter(userId, time, pageWithSort);
+                bookings = bookingDao.findByBookerIdAndStartsIsAfter(userId, time,
+                        cursorStarts, cursorId, page);
                 break;
             case CURRENT:
-                bookings = bookingRepository.findByBookerIdAndStartsIsBeforeAndEndsIsAfter(userId,
-                        time, time, pageWithSort);
+                bookings = bookingDao.findByBookerIdAndStartsIsBeforeAndEndsIsAfter(userId, time,
+                        cursorStarts, cursorId, page);
                 break;
             case WAITING:
-                bookings = bookingRepository.findByBookerIdAndStatus(userId, Status.WAITING, pageWithSort);
+                bookings = bookingDao.findByBookerIdAndStatus(userId, Status.WAITING,
+                        cursorStarts, cursorId, page);
                 break;
             case REJECTED:
-                bookings = bookingRepository.findByBookerIdAndStatus(userId, Status.REJECTED, pageWithSort);
+                bookings = bookingDao.findByBookerIdAndStatus(userId, Status.REJECTED,
+                        cursorStarts, cursorId, page);
                 break;
             default:
-                bookings = bookingRepository.findByBookerIdOrderByStartsDesc(userId, page);
+                bookings = bookingDao.findByBookerId(userId, cursorStarts, cursorId, page);
                 break;
         }
-        List<BookingDto> result = new ArrayList<>();
-        for (Booking booking : bookings) {
-            var bookingDto = BookingMapper.INSTANCE.toBookingDto(booking);
-            bookingDto.setItem(ItemMapper.INSTANCE.toItemDto(booking.getItem()));
-            bookingDto.setBooker(UserMapper.INSTANCE.toUserDto(booking.getBooker()));
-            result.add(bookingDto);
-        }
-        return result;
+        return toBookingPage(bookings, size);
     }
 
     @Override
-    public List<BookingDto> getBookingByItemOwner(long userId, String state, int from, int size) {
+    public CursorPage<BookingDto> getBookingByItemOwner(long userId, String state, int from, int size,
+                                                        String cursor) {
         if (from < 0) {
             throw new ValidationException("From не может быть отрицальным!");
         }
-        int offsets = from > 0 ? from / size : 0;
-        PageRequest page = PageRequest.of(offsets, size);
-        PageRequest pageWithSort = PageRequest.of(offsets, size, sort);
-        State stateEnum;
-        try {
-            stateEnum = State.valueOf(state);
-        } catch (Exception ex) {
-            throw new WrongStatusException("Unknown state: UNSUPPORTED_STATUS");
-        }
-        var user = userRepository.findById(userId);
+        State stateEnum = parseState(state);
+        var user = userDao.findSnapshotById(userId);
         if (user.isEmpty()) {
             throw new ObjectNotFoundException("Пользователь не найден");
         }
-        List<Booking> bookings;
+        Cursor position = Cursor.page(cursor, from, size, Cursor.LATEST, Long.MAX_VALUE);
+        LocalDateTime cursorStarts = position.getDateTime(0);
+        long cursorId = position.getLong(1);
+        Pageable page = position.getPageable();
+        List<BookingView> bookings;
         LocalDateTime time = LocalDateTime.now();
         switch (stateEnum) {
             case PAST:
-                bookings = bookingRepository.findByItemOwnerIdAndEndsIsBefore(userId, time, pageWithSort);
+                bookings = bookingDao.findByOwnerIdAndEndsIsBefore(userId, time,
+                        cursorStarts, cursorId, page);
                 break;
             case FUTURE:
-                bookings = bookingRepository.findByItemOwnerIdAndStartsIsAfter(userId, time, pageWithSort);
+                bookings = bookingDao.findByOwnerIdAndStartsIsAfter(userId, time,
+                        cursorStarts, cursorId, page);
                 break;
             case CURRENT:
-                bookings = bookingRepository.findByItemOwnerIdAndStartsIsBeforeAndEndsIsAfter(userId,
-                        time, time, pageWithSort);
+                bookings = bookingDao.findByOwnerIdAndStartsIsBeforeAndEndsIsAfter(userId, time,
+                        cursorStarts, cursorId, page);
                 break;
             case WAITING:
-                bookings = bookingRepository.findByItemOwnerIdAndStatus(userId, Status.WAITING, pageWithSort);
+                bookings = bookingDao.findByOwnerIdAndStatus(userId, Status.WAITING,
+                        cursorStarts, cursorId, page);
                 break;
             case REJECTED:
-                bookings = bookingRepository.findByItemOwnerIdAndStatus(userId, Status.REJECTED, pageWithSort);
+                bookings = bookingDao.findByOwnerIdAndStatus(userId, Status.REJECTED,
+                        cursorStarts, cursorId, page);
                 break;
             default:
-                bookings = bookingRepository.findByItemOwnerIdOrderByStartsDesc(userId, page);
+                bookings = bookingDao.findByOwnerId(userId, cursorStarts, cursorId, page);
                 break;
         }
+        return toBookingPage(bookings, size);
+    }
+
+    private State parseState(String state) {
+        try {
+            return State.valueOf(state);
+        } catch (Exception ex) {
+            throw new WrongStatusException("Unknown state: UNSUPPORTED_STATUS");
+        }
+    }
+
+    private CursorPage<BookingDto> toBookingPage(List<BookingView> bookings, int size) {
         List<BookingDto> result = new ArrayList<>();
-        for (Booking booking : bookings) {
-            var bookingDto = BookingMapper.INSTANCE.toBookingDto(booking);
-            bookingDto.setItem(ItemMapper.INSTANCE.toItemDto(booking.getItem()));
-            bookingDto.setBooker(UserMapper.INSTANCE.toUserDto(booking.getBooker()));
-            result.add(bookingDto);
+        for (BookingView booking : bookings) {
+            result.add(BookingMapper.INSTANCE.toBookingDto(booking));
         }
-        return result;
+        String nextCursor = null;
+        if (bookings.size() == size) {
+            BookingView last = bookings.get(bookings.size() - 1);
+            nextCursor = Cursor.encode(last.getStarts(), last.getId());
+        }
+        return new CursorPage<>(result, nextCursor);
+    }
+
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(constraint)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private void validateTimeBooking(BookingDto bookingDto) {
@@ -1,12 +1,31 @@
 package ru.practicum.shareit.item;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.item.model.Comment;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findCommentsByItemId(Long itemId);
+    List<Comment> findByItemIdOrderByCreatedDescIdDesc(Long itemId, Pageable pageable);
+
+    @Query(value = "select c.* from items i cross join lateral (" +
+            "select r.* from comments r where r.item_id = i.id " +
+            "order by r.created desc, r.id desc limit ?2) c " +
+            "where i.id in ?1 " +
+            "order by c.item_id, c.created desc, c.id desc",
+            nativeQuery = true)
+    List<Comment> findRecentCommentsByItemIdIn(Collection<Long> itemIds, int limit);
+
+    @Query(value = "select c.* from comments c " +
+            "where c.id in (select r.id from (select id, row_number() over " +
+            "(partition by item_id order by created desc, id desc) as rn " +
+            "from comments where item_id in ?1) r where r.rn <= ?2) " +
+            "order by c.item_id, c.created desc, c.id desc",
+            nativeQuery = true)
+    List<Comment> findRecentCommentsByItemIdInPortable(Collection<Long> itemIds, int limit);
 }
@@ -3,6 +3,7 @@ package ru.practicum.shareit.item;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.dto.CommentDto;
@@ -11,19 +12,27 @@ import ru.practicum.shareit.item.dto.ItemItemRequestDto;
 import ru.practicum.shareit.item.service.ItemService;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import java.net.URI;
 import java.util.List;
+import java.util.Set;
 
 @RestController
+@Validated
 @RequestMapping("/items")
 @Slf4j
 @RequiredArgsConstructor
 public class ItemController {
+    private static final String EXPAND_OWNER = "owner";
     private final ItemService itemService;
 
     @GetMapping
-    public ResponseEntity<List<ItemDto>> getAllItemsByUserId(@RequestHeader("X-Sharer-User-Id") long userId) {
-        return ResponseEntity.ok().body(itemService.getAllItemsByUserId(userId));
+    public ResponseEntity<List<ItemDto>> getAllItemsByUserId(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                             @RequestParam(defaultValue = "0") @Min(0) Integer from,
+                                                             @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
+                                                             @RequestParam(required = false) Set<String> expand) {
+        return ResponseEntity.ok().body(itemService.getAllItemsByUserId(userId, from, size, expandOwner(expand)));
     }
 
     @PostMapping
@@ -36,8 +45,9 @@ public class ItemController {
 
     @GetMapping("/{itemId}")
     public ResponseEntity<ItemDto> getItemById(@RequestHeader("X-Sharer-User-Id") long userId,
-                                               @PathVariable long itemId) {
-        return ResponseEntity.ok().body(itemService.getItemById(itemId, userId));
+                                               @PathVariable long itemId,
+                                               @RequestParam(required = false) Set<String> expand) {
+        return ResponseEntity.ok().body(itemService.getItemById(itemId, userId, expandOwner(expand)));
     }
 
     @PatchMapping("/{itemId}")
@@ -52,8 +62,12 @@ public class ItemController {
 
     @GetMapping("/search")
     public ResponseEntity<List<ItemDto>> textSearch(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                    @RequestParam(value = "text") String text) {
-        return ResponseEntity.ok().body(itemService.textSearch(text));
+                                                    @RequestParam(value = "text") String text,
+                                                    @RequestParam(defaultValue = "0") @Min(0) Integer from,
+                                                    @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
+                                                    @RequestParam(required = false) String cursor) {
+        var page = itemService.textSearch(text, from, size, cursor);
+        return ResponseEntity.ok().headers(page.headers()).body(page.getContent());
     }
 
     @PostMapping("/{itemId}/comment")
@@ -68,4 +82,15 @@ public class ItemController {
         commentDto.setText(text);
         return ResponseEntity.ok().body(itemService.addComment(userId, itemId, commentDto));
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{itemId}/comments")
+    public ResponseEntity<List<CommentDto>> getComments(@PathVariable long itemId,
+                                                        @RequestParam(defaultValue = "0") @Min(0) Integer from,
+                                                        @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size) {
+        return ResponseEntity.ok().body(itemService.getComments(itemId, from, size));
+    }
+
+    private static boolean expandOwner(Set<String> expand) {
+        return expand != null && expand.contains(EXPAND_OWNER);
+    }
+}
@@ -1,22 +1,39 @@
 package ru.practicum.shareit.item;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSearchHit;
+import ru.practicum.shareit.request.dto.ItemRequestResponseDtoItem;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long> {
-    List<Item> findItemByOwnerId(long ownerId);
+    List<Item> findItemByOwnerIdOrderById(long ownerId, Pageable pageable);
 
-    @Query(" select i from Item i " +
-            "where upper(i.name) like upper(concat('%', ?1, '%')) " +
-            " or upper(i.description) like upper(concat('%', ?1, '%'))")
-    List<Item> search(String text);
+    @Query(value = "select i.id as id, ts_rank(i.search_vector, plainto_tsquery('simple', ?1)) as rank " +
+            "from items i " +
+            "where i.available = true " +
+            "and (i.search_vector @@ plainto_tsquery('simple', ?1) " +
+            "or lower(i.name) like lower(concat('%', ?1, '%')) " +
+            "or lower(i.description) like lower(concat('%', ?1, '%'))) " +
+            "and (ts_rank(i.search_vector, plainto_tsquery('simple', ?1)) < cast(?2 as real) " +
+            "or (ts_rank(i.search_vector, plainto_tsquery('simple', ?1)) = cast(?2 as real) and i.id > ?3)) " +
+            "order by rank desc, i.id",
+            nativeQuery = true)
+    List<ItemSearchHit> search(String text, float rank, long id, Pageable pageable);
 
-    List<Item> findItemsByRequestIdIn(Iterable requestId);
+    @Modifying
+    @Query("update Item i set i.commentCount = i.commentCount + 1 where i.id = ?1")
+    void incrementCommentCount(long itemId);
 
-    List<Item> findItemsByRequestId(long requestId);
+    @Query("select new ru.practicum.shareit.request.dto.ItemRequestResponseDtoItem(" +
+            "i.id, i.name, i.description, i.request.id, i.available) " +
+            "from Item i where i.request.id in ?1")
+    List<ItemRequestResponseDtoItem> findRequestItemsByRequestIdIn(Collection<Long> requestIds);
 }
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.item.dao;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.model.Comment;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CommentDao {
+
+    Comment addComment(Comment comment);
+
+    List<Comment> findByItemIdOrderByCreatedDescIdDesc(long itemId, Pageable pageable);
+
+    List<Comment> findRecentCommentsByItemIdIn(Collection<Long> itemIds, int limit);
+
+}
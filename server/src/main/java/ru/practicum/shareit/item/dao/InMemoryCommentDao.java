@@ -0,0 +1,178 @@
+package ru.practicum.shareit.item.dao;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.storage.ChangeLog;
+import ru.practicum.shareit.storage.ChangeLogFactory;
+import ru.practicum.shareit.user.dao.UserDao;
+import ru.practicum.shareit.user.dao.UserReferences;
+import ru.practicum.shareit.user.model.User;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+@Repository
+@Profile("memory")
+@Slf4j
+public class InMemoryCommentDao implements CommentDao, UserReferences {
+    private static final Comparator<CommentRecord> NEWEST_FIRST = Comparator.comparing(CommentRecord::getCreated)
+            .thenComparingLong(CommentRecord::getId)
+            .reversed();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, NavigableSet<CommentRecord>> commentsByItem = new HashMap<>();
+    private final AtomicLong commentId = new AtomicLong();
+    private final ItemDao itemDao;
+    private final UserDao userDao;
+    private final ChangeLog<CommentRecord> changeLog;
+
+    public InMemoryCommentDao(ItemDao itemDao, UserDao userDao, ChangeLogFactory changeLogs) {
+        this.itemDao = itemDao;
+        this.userDao = userDao;
+        changeLog = changeLogs.open("comments", CommentRecord.class, CommentRecord::getId);
+        for (CommentRecord record : changeLog.load(this::records).values()) {
+            put(record);
+            commentId.accumulateAndGet(record.getId(), Math::max);
+        }
+    }
+
+    @Override
+    public Comment addComment(Comment comment) {
+        comment.setId(commentId.incrementAndGet());
+        if (comment.getCreated() == null) {
+            comment.setCreated(LocalDateTime.now());
+        }
+        CommentRecord record = new CommentRecord(comment.getId(), comment.getText(), comment.getItem().getId(),
+                comment.getAuthor().getId(), comment.getCreated());
+        changeLog.write(() -> {
+            lock.writeLock().lock();
+            try {
+                put(record);
+                changeLog.put(record);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+        log.info("Добавлен новый комментарий к вещи {}", record.getItemId());
+        return comment;
+    }
+
+    @Override
+    public List<Comment> findByItemIdOrderByCreatedDescIdDesc(long itemId, Pageable pageable) {
+        List<CommentRecord> records;
+        lock.readLock().lock();
+        try {
+            records = commentsByItem.getOrDefault(itemId, Collections.emptyNavigableSet()).stream()
+                    .skip(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+        return toComments(records);
+    }
+
+    @Override
+    public List<Comment> findRecentCommentsByItemIdIn(Collection<Long> itemIds, int limit) {
+        List<CommentRecord> records = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long itemId : new TreeSet<>(itemIds)) {
+                commentsByItem.getOrDefault(itemId, Collections.emptyNavigableSet()).stream()
+                        .limit(limit)
+                        .forEach(records::add);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return toComments(records);
+    }
+
+    @Override
+    public void deleteByUserId(long userId) {
+        changeLog.write(() -> {
+            lock.writeLock().lock();
+            try {
+                Iterator<NavigableSet<CommentRecord>> postings = commentsByItem.values().iterator();
+                while (postings.hasNext()) {
+                    NavigableSet<CommentRecord> posting = postings.next();
+                    posting.removeIf(record -> {
+                        if (record.getAuthorId() != userId) {
+                            return false;
+                        }
+                        changeLog.delete(record.getId());
+                        return true;
+                    });
+                    if (posting.isEmpty()) {
+                        postings.remove();
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        changeLog.close();
+    }
+
+    private void put(CommentRecord record) {
+        commentsByItem.computeIfAbsent(record.getItemId(), key -> new TreeSet<>(NEWEST_FIRST)).add(record);
+    }
+
+    private List<CommentRecord> records() {
+        lock.readLock().lock();
+        try {
+            List<CommentRecord> records = new ArrayList<>();
+            commentsByItem.values().forEach(records::addAll);
+            return records;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Comment> toComments(List<CommentRecord> records) {
+        Map<Long, Item> items = new HashMap<>();
+        List<Comment> comments = new ArrayList<>(records.size());
+        for (CommentRecord record : records) {
+            Item item = items.computeIfAbsent(record.getItemId(), id -> {
+                Item found = itemDao.getItemById(id);
+                return found != null ? found : Item.builder().id(id).build();
+            });
+            User author = userDao.getUserById(record.getAuthorId());
+            comments.add(Comment.builder()
+                    .id(record.getId())
+                    .text(record.getText())
+                    .item(item)
+                    .author(author != null ? author : User.builder().id(record.getAuthorId()).build())
+                    .created(record.getCreated())
+                    .build());
+        }
+        return comments;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class CommentRecord {
+        private long id;
+        private String text;
+        private long itemId;
+        private long authorId;
+        private LocalDateTime created;
+    }
+}
@@ -1,62 +1,324 @@
 package ru.practicum.shareit.item.dao;
 
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSearchHit;
+import ru.practicum.shareit.request.dto.ItemRequestResponseDtoItem;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.storage.ChangeLog;
+import ru.practicum.shareit.storage.ChangeLogFactory;
+import ru.practicum.shareit.storage.IntList;
+import ru.practicum.shareit.storage.LongIntHashMap;
+import ru.practicum.shareit.user.dao.UserDao;
+import ru.practicum.shareit.user.dao.UserReferences;
+import ru.practicum.shareit.user.model.User;
 
+import javax.annotation.PreDestroy;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 @Repository
+@Profile("memory")
 @Slf4j
-public class InMemoryItemDao implements ItemDao {
-    private final Map<Long, Item> items = new HashMap<>();
-    private Long itemId = 1L;
+public class InMemoryItemDao implements ItemDao, UserReferences {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long NO_REQUEST = 0;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap rows = new LongIntHashMap(INITIAL_CAPACITY);
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] ownerIds = new long[INITIAL_CAPACITY];
+    private long[] requestIds = new long[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] descriptions = new String[INITIAL_CAPACITY];
+    private int[] commentCounts = new int[INITIAL_CAPACITY];
+    private final BitSet available = new BitSet(INITIAL_CAPACITY);
+    private int size;
+    private final Map<Long, IntList> rowsByOwner = new HashMap<>();
+    private final Map<Long, IntList> rowsByRequest = new HashMap<>();
+    private final ItemTrigramIndex searchIndex = new ItemTrigramIndex();
+    private long itemId;
+    private final UserDao userDao;
+    private final ChangeLog<ItemRecord> changeLog;
+
+    public InMemoryItemDao(UserDao userDao, ChangeLogFactory changeLogs) {
+        this.userDao = userDao;
+        changeLog = changeLogs.open("items", ItemRecord.class, ItemRecord::getId);
+        List<ItemRecord> records = new ArrayList<>(changeLog.load(this::records).values());
+        records.sort(Comparator.comparingLong(ItemRecord::getId));
+        for (ItemRecord record : records) {
+            put(record);
+            itemId = Math.max(itemId, record.getId());
+        }
+    }
 
     @Override
     public Item addItem(Item item) {
-        item.setId(nextId());
-        items.put(item.getId(), item);
+        store(item);
         log.info("Добавлена новая вещь: {}", item);
         return item;
     }
 
     @Override
     public Item updateItem(Item item) {
-        items.put(item.getId(), item);
-        log.info("Данные вещи обновлены: {}", item);
+        ItemRecord stored = store(item);
+        log.info("Данные вещи обновлены: {}", stored);
         return item;
     }
 
     @Override
     public Item getItemById(long id) {
-        return items.get(id);
+        ItemRecord record;
+        lock.readLock().lock();
+        try {
+            int row = rows.get(id);
+            record = row < 0 ? null : recordAt(row);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return record == null ? null : toItem(record, userDao.getUserById(record.getOwnerId()));
     }
 
     @Override
-    public List<Item> getAllItemsByUserId(long userId) {
-        List<Item> result = new ArrayList<>();
-        for (Item value : items.values()) {
-            if (value.getOwner().getId() == userId) {
-                result.add(value);
+    public List<Item> getItemsByIds(Collection<Long> ids) {
+        List<ItemRecord> records = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : ids) {
+                int row = rows.get(id);
+                if (row >= 0) {
+                    records.add(recordAt(row));
+                }
             }
+        } finally {
+            lock.readLock().unlock();
         }
-        return result;
+        return toItems(records);
+    }
+
+    @Override
+    public List<Item> getAllItems() {
+        return toItems(records());
+    }
+
+    @Override
+    public List<Item> getAllItemsByUserId(long userId, Pageable pageable) {
+        List<ItemRecord> records = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            IntList owned = rowsByOwner.get(userId);
+            if (owned != null) {
+                int from = (int) Math.min(pageable.getOffset(), owned.size());
+                int to = Math.min(from + pageable.getPageSize(), owned.size());
+                for (int i = from; i < to; i++) {
+                    records.add(recordAt(owned.get(i)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return toItems(records);
+    }
+
+    @Override
+    public List<ItemSearchHit> textSearch(String text, float rank, long lastId, Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            return searchIndex.search(text, rank, lastId, pageable);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ItemRequestResponseDtoItem> findRequestItemsByRequestIdIn(Collection<Long> requestIds) {
+        List<ItemRequestResponseDtoItem> items = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long requestId : requestIds) {
+                IntList requested = rowsByRequest.get(requestId);
+                if (requested != null) {
+                    for (int i = 0; i < requested.size(); i++) {
+                        int row = requested.get(i);
+                        items.add(new ItemRequestResponseDtoItem(ids[row], names[row], descriptions[row], requestId,
+                                available.get(row)));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return items;
     }
 
     @Override
-    public List<Item> textSearch(String text) {
-        List<Item> listSearch = new ArrayList<>();
-        for (Item item : items.values()) {
-            if (Objects.equals(item.isAvailable(), true) &&
-                    (item.getName().toLowerCase().contains(text.toLowerCase()) ||
-                            item.getDescription().toLowerCase().contains(text.toLowerCase()))) {
-                listSearch.add(item);
+    public void incrementCommentCount(long itemId) {
+        changeLog.write(() -> {
+            lock.writeLock().lock();
+            try {
+                int row = rows.get(itemId);
+                if (row >= 0) {
+                    commentCounts[row]++;
+                    changeLog.put(recordAt(row));
+                }
+            } finally {
+                lock.writeLock().unlock();
             }
+        });
+    }
+
+    @Override
+    public void checkRestricted(long userId) {
+        lock.readLock().lock();
+        try {
+            if (rowsByOwner.containsKey(userId)) {
+                throw new DataIntegrityViolationException("Нельзя удалить пользователя, у которого есть вещи!");
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        changeLog.close();
+    }
+
+    private ItemRecord store(Item item) {
+        AtomicReference<ItemRecord> stored = new AtomicReference<>();
+        changeLog.write(() -> {
+            lock.writeLock().lock();
+            try {
+                if (rows.get(item.getId()) < 0) {
+                    item.setId(++itemId);
+                }
+                stored.set(recordAt(put(toRecord(item))));
+                changeLog.put(stored.get());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+        return stored.get();
+    }
+
+    private int put(ItemRecord record) {
+        int row = rows.get(record.getId());
+        if (row < 0) {
+            row = size++;
+            ensureCapacity(size);
+            rows.put(record.getId(), row);
+            ids[row] = record.getId();
+            commentCounts[row] = record.getCommentCount();
+            rowsByOwner.computeIfAbsent(record.getOwnerId(), key -> new IntList()).add(row);
+        } else {
+            if (ownerIds[row] != record.getOwnerId()) {
+                remove(rowsByOwner, ownerIds[row], row);
+                rowsByOwner.computeIfAbsent(record.getOwnerId(), key -> new IntList()).add(row);
+            }
+        }
+        long requestId = record.getRequestId() == null ? NO_REQUEST : record.getRequestId();
+        if (requestIds[row] != requestId) {
+            if (requestIds[row] != NO_REQUEST) {
+                remove(rowsByRequest, requestIds[row], row);
+            }
+            if (requestId != NO_REQUEST) {
+                rowsByRequest.computeIfAbsent(requestId, key -> new IntList()).add(row);
+            }
+        }
+        searchIndex.put(record.getId(), record.getName(), record.getDescription(), record.isAvailable());
+        ownerIds[row] = record.getOwnerId();
+        requestIds[row] = requestId;
+        names[row] = record.getName();
+        descriptions[row] = record.getDescription();
+        available.set(row, record.isAvailable());
+        return row;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int grown = ids.length * 2;
+        ids = Arrays.copyOf(ids, grown);
+        ownerIds = Arrays.copyOf(ownerIds, grown);
+        requestIds = Arrays.copyOf(requestIds, grown);
+        names = Arrays.copyOf(names, grown);
+        descriptions = Arrays.copyOf(descriptions, grown);
+        commentCounts = Arrays.copyOf(commentCounts, grown);
+    }
+
+    private ItemRecord recordAt(int row) {
+        return new ItemRecord(ids[row], names[row], descriptions[row], available.get(row), ownerIds[row],
+                requestIds[row] == NO_REQUEST ? null : requestIds[row], commentCounts[row]);
+    }
+
+    private List<ItemRecord> records() {
+        lock.readLock().lock();
+        try {
+            List<ItemRecord> records = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                records.add(recordAt(row));
+            }
+            return records;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Item> toItems(List<ItemRecord> records) {
+        records.sort(Comparator.comparingLong(ItemRecord::getId));
+        Map<Long, User> owners = new HashMap<>();
+        List<Item> result = new ArrayList<>(records.size());
+        for (ItemRecord record : records) {
+            result.add(toItem(record, owners.computeIfAbsent(record.getOwnerId(), userDao::getUserById)));
+        }
+        return result;
+    }
+
+    private static ItemRecord toRecord(Item item) {
+        Long requestId = item.getRequest() == null ? null : item.getRequest().getId();
+        return new ItemRecord(item.getId(), item.getName(), item.getDescription(), item.isAvailable(),
+                item.getOwner().getId(), requestId, item.getCommentCount());
+    }
+
+    private static Item toItem(ItemRecord record, User owner) {
+        return Item.builder()
+                .id(record.getId())
+                .name(record.getName())
+                .description(record.getDescription())
+                .available(record.isAvailable())
+                .commentCount(record.getCommentCount())
+                .owner(owner != null ? owner : User.builder().id(record.getOwnerId()).build())
+                .request(record.getRequestId() == null ? null : ItemRequest.builder().id(record.getRequestId()).build())
+                .build();
+    }
+
+    private static <K> void remove(Map<K, IntList> index, K key, int row) {
+        IntList postingRows = index.get(key);
+        if (postingRows != null && postingRows.removeValue(row) && postingRows.isEmpty()) {
+            index.remove(key);
         }
-        return listSearch;
     }
 
-    private Long nextId() {
-        return itemId++;
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class ItemRecord {
+        private long id;
+        private String name;
+        private String description;
+        private boolean available;
+        private long ownerId;
+        private Long requestId;
+        private int commentCount;
     }
 }
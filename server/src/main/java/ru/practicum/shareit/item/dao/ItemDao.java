@@ -1,7 +1,11 @@
 package ru.practicum.shareit.item.dao;
 
+import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSearchHit;
+import ru.practicum.shareit.request.dto.ItemRequestResponseDtoItem;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemDao {
@@ -12,8 +16,16 @@ public interface ItemDao {
 
     Item getItemById(long id);
 
-    List<Item> getAllItemsByUserId(long userId);
+    List<Item> getItemsByIds(Collection<Long> ids);
 
-    List<Item> textSearch(String text);
+    List<Item> getAllItems();
+
+    List<Item> getAllItemsByUserId(long userId, Pageable pageable);
+
+    List<ItemSearchHit> textSearch(String text, float rank, long lastId, Pageable pageable);
+
+    List<ItemRequestResponseDtoItem> findRequestItemsByRequestIdIn(Collection<Long> requestIds);
+
+    void incrementCommentCount(long itemId);
 
 }
\ No newline at end of file
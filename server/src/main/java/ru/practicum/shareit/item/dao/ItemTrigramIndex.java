@@ -0,0 +1,183 @@
+package ru.practicum.shareit.item.dao;
+
+import lombok.Value;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.model.ItemSearchHit;
+import ru.practicum.shareit.storage.IntList;
+import ru.practicum.shareit.storage.LongIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ItemTrigramIndex {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int GRAM = 3;
+    private static final float NAME_RANK = 1.0f;
+    private static final float DESCRIPTION_RANK = 0.4f;
+    private static final Comparator<ItemSearchHit> BY_RANK = Comparator.comparing(ItemSearchHit::getRank)
+            .reversed()
+            .thenComparing(ItemSearchHit::getId);
+
+    private final LongIntHashMap slots = new LongIntHashMap(INITIAL_CAPACITY);
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] descriptions = new String[INITIAL_CAPACITY];
+    private final BitSet available = new BitSet(INITIAL_CAPACITY);
+    private final Map<String, IntList> postings = new HashMap<>();
+    private int size;
+
+    public void put(long id, String name, String description, boolean isAvailable) {
+        String lowerName = name == null ? "" : name.toLowerCase();
+        String lowerDescription = description == null ? "" : description.toLowerCase();
+        int existing = slots.get(id);
+        Set<String> staleGrams = existing < 0 ? Set.of() : grams(names[existing], descriptions[existing]);
+        int slot = existing < 0 ? newSlot(id) : existing;
+        Set<String> freshGrams = grams(lowerName, lowerDescription);
+        for (String gram : staleGrams) {
+            if (!freshGrams.contains(gram)) {
+                unpost(gram, slot);
+            }
+        }
+        for (String gram : freshGrams) {
+            if (!staleGrams.contains(gram)) {
+                postings.computeIfAbsent(gram, key -> new IntList()).add(slot);
+            }
+        }
+        names[slot] = lowerName;
+        descriptions[slot] = lowerDescription;
+        available.set(slot, isAvailable);
+    }
+
+    public void remove(long id) {
+        int slot = slots.remove(id);
+        if (slot < 0) {
+            return;
+        }
+        for (String gram : grams(names[slot], descriptions[slot])) {
+            unpost(gram, slot);
+        }
+        int last = --size;
+        if (slot != last) {
+            for (String gram : grams(names[last], descriptions[last])) {
+                IntList gramSlots = postings.get(gram);
+                gramSlots.removeValue(last);
+                gramSlots.add(slot);
+            }
+            ids[slot] = ids[last];
+            names[slot] = names[last];
+            descriptions[slot] = descriptions[last];
+            available.set(slot, available.get(last));
+            slots.put(ids[slot], slot);
+        }
+        names[last] = null;
+        descriptions[last] = null;
+        available.clear(last);
+    }
+
+    public void clear() {
+        slots.clear();
+        postings.clear();
+        Arrays.fill(names, 0, size, null);
+        Arrays.fill(descriptions, 0, size, null);
+        available.clear();
+        size = 0;
+    }
+
+    public List<ItemSearchHit> search(String text, float rank, long lastId, Pageable pageable) {
+        String query = text.toLowerCase();
+        List<ItemSearchHit> hits = new ArrayList<>();
+        if (query.length() < GRAM) {
+            for (int slot = 0; slot < size; slot++) {
+                collect(slot, query, rank, lastId, hits);
+            }
+        } else {
+            IntList candidates = candidates(query);
+            for (int i = 0; i < candidates.size(); i++) {
+                collect(candidates.get(i), query, rank, lastId, hits);
+            }
+        }
+        hits.sort(BY_RANK);
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        return new ArrayList<>(hits.subList(from, to));
+    }
+
+    private IntList candidates(String query) {
+        IntList smallest = null;
+        for (String gram : grams(query, "")) {
+            IntList gramSlots = postings.get(gram);
+            if (gramSlots == null) {
+                return new IntList();
+            }
+            if (smallest == null || gramSlots.size() < smallest.size()) {
+                smallest = gramSlots;
+            }
+        }
+        return smallest;
+    }
+
+    private void collect(int slot, String query, float rank, long lastId, List<ItemSearchHit> hits) {
+        if (!available.get(slot)) {
+            return;
+        }
+        float hitRank;
+        if (names[slot].contains(query)) {
+            hitRank = NAME_RANK;
+        } else if (descriptions[slot].contains(query)) {
+            hitRank = DESCRIPTION_RANK;
+        } else {
+            return;
+        }
+        if (hitRank < rank || (hitRank == rank && ids[slot] > lastId)) {
+            hits.add(new SearchHit(ids[slot], hitRank));
+        }
+    }
+
+    private int newSlot(long id) {
+        int slot = size++;
+        ensureCapacity(size);
+        slots.put(id, slot);
+        ids[slot] = id;
+        return slot;
+    }
+
+    private void unpost(String gram, int slot) {
+        IntList gramSlots = postings.get(gram);
+        if (gramSlots != null && gramSlots.removeValue(slot) && gramSlots.isEmpty()) {
+            postings.remove(gram);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int grown = ids.length * 2;
+        ids = Arrays.copyOf(ids, grown);
+        names = Arrays.copyOf(names, grown);
+        descriptions = Arrays.copyOf(descriptions, grown);
+    }
+
+    private static Set<String> grams(String name, String description) {
+        Set<String> grams = new HashSet<>();
+        for (String value : List.of(name, description)) {
+            for (int i = 0; i + GRAM <= value.length(); i++) {
+                grams.add(value.substring(i, i + GRAM));
+            }
+        }
+        return grams;
+    }
+
+    @Value
+    private static class SearchHit implements ItemSearchHit {
+        Long id;
+        Float rank;
+    }
+}
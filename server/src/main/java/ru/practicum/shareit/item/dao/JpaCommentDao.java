@@ -0,0 +1,38 @@
+package ru.practicum.shareit.item.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.CommentRepository;
+import ru.practicum.shareit.item.model.Comment;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@Profile("!memory")
+@RequiredArgsConstructor
+public class JpaCommentDao implements CommentDao {
+    private final CommentRepository commentRepository;
+    @Value("${shareit.sql.lateral-joins:true}")
+    private boolean lateralJoins;
+
+    @Override
+    public Comment addComment(Comment comment) {
+        return commentRepository.save(comment);
+    }
+
+    @Override
+    public List<Comment> findByItemIdOrderByCreatedDescIdDesc(long itemId, Pageable pageable) {
+        return commentRepository.findByItemIdOrderByCreatedDescIdDesc(itemId, pageable);
+    }
+
+    @Override
+    public List<Comment> findRecentCommentsByItemIdIn(Collection<Long> itemIds, int limit) {
+        return lateralJoins
+                ? commentRepository.findRecentCommentsByItemIdIn(itemIds, limit)
+                : commentRepository.findRecentCommentsByItemIdInPortable(itemIds, limit);
+    }
+}
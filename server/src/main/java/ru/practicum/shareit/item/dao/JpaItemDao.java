@@ -0,0 +1,65 @@
+package ru.practicum.shareit.item.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSearchHit;
+import ru.practicum.shareit.request.dto.ItemRequestResponseDtoItem;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@Profile("!memory")
+@RequiredArgsConstructor
+public class JpaItemDao implements ItemDao {
+    private final ItemRepository itemRepository;
+
+    @Override
+    public Item addItem(Item item) {
+        return itemRepository.save(item);
+    }
+
+    @Override
+    public Item updateItem(Item item) {
+        return itemRepository.save(item);
+    }
+
+    @Override
+    public Item getItemById(long id) {
+        return itemRepository.findById(id).orElse(null);
+    }
+
+    @Override
+    public List<Item> getItemsByIds(Collection<Long> ids) {
+        return itemRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<Item> getAllItems() {
+        return itemRepository.findAll();
+    }
+
+    @Override
+    public List<Item> getAllItemsByUserId(long userId, Pageable pageable) {
+        return itemRepository.findItemByOwnerIdOrderById(userId, pageable);
+    }
+
+    @Override
+    public List<ItemSearchHit> textSearch(String text, float rank, long lastId, Pageable pageable) {
+        return itemRepository.search(text, rank, lastId, pageable);
+    }
+
+    @Override
+    public List<ItemRequestResponseDtoItem> findRequestItemsByRequestIdIn(Collection<Long> requestIds) {
+        return itemRepository.findRequestItemsByRequestIdIn(requestIds);
+    }
+
+    @Override
+    public void incrementCommentCount(long itemId) {
+        itemRepository.incrementCommentCount(itemId);
+    }
+}
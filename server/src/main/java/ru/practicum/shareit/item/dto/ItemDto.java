@@ -1,12 +1,12 @@
 package ru.practicum.shareit.item.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import ru.practicum.shareit.booking.dto.BookingDto;
-import ru.practicum.shareit.request.model.ItemRequest;
-import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.dto.UserDto;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,10 +20,12 @@ public class ItemDto {
     private String name;
     private String description;
     private Boolean available;
-    private User owner;
-    private ItemRequest request;
+    private Long ownerId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private UserDto owner;
     private BookingDto lastBooking;
     private BookingDto nextBooking;
     private long requestId;
+    private int commentCount;
     private List<CommentDto> comments = new ArrayList<>();
 }
\ No newline at end of file
@@ -11,6 +11,8 @@ public interface ItemMapper {
     ItemMapper INSTANCE = Mappers.getMapper(ItemMapper.class);
 
     @Mapping(target = "requestId", source = "source")
+    @Mapping(target = "ownerId", source = "owner.id")
+    @Mapping(target = "owner", ignore = true)
     ItemDto toItemDto(Item source);
 
     Item toItem(ItemItemRequestDto itemDto);
@@ -25,10 +25,14 @@ public class Item {
     private String description;
     @Column(name = "available")
     private boolean available;
-    @ManyToOne
+    @Column(name = "comment_count", insertable = false, updatable = false)
+    private int commentCount;
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id")
+    @ToString.Exclude
     private User owner;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "request_id")
+    @ToString.Exclude
     private ItemRequest request;
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.item.model;
+
+public interface ItemSearchHit {
+    Long getId();
+
+    Float getRank();
+}
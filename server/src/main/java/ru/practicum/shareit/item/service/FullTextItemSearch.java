@@ -0,0 +1,22 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dao.ItemDao;
+import ru.practicum.shareit.item.model.ItemSearchHit;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.item-search", havingValue = "full-text", matchIfMissing = true)
+public class FullTextItemSearch implements ItemSearch {
+    private final ItemDao itemDao;
+
+    @Override
+    public List<ItemSearchHit> search(String text, float rank, long lastId, Pageable pageable) {
+        return itemDao.textSearch(text, rank, lastId, pageable);
+    }
+}
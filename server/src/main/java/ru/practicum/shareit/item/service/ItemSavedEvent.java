@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ItemSavedEvent {
+    private final long itemId;
+    private final String name;
+    private final String description;
+    private final boolean available;
+    private final Long requestId;
+}
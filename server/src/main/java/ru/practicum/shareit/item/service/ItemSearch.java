@@ -0,0 +1,10 @@
+package ru.practicum.shareit.item.service;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.model.ItemSearchHit;
+
+import java.util.List;
+
+public interface ItemSearch {
+    List<ItemSearchHit> search(String text, float rank, long lastId, Pageable pageable);
+}
@@ -0,0 +1,63 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.dao.ItemDao;
+import ru.practicum.shareit.item.dao.ItemTrigramIndex;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSearchHit;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.item-search", havingValue = "trigram")
+public class ItemSearchIndex implements ItemSearch {
+    private final ItemDao itemDao;
+    private final ItemTrigramIndex index = new ItemTrigramIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Item> items = itemDao.getAllItems();
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            for (Item item : items) {
+                index.put(item.getId(), item.getName(), item.getDescription(), item.isAvailable());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Поисковый индекс построен, вещей: {}", items.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSaved(ItemSavedEvent event) {
+        lock.writeLock().lock();
+        try {
+            index.put(event.getItemId(), event.getName(), event.getDescription(), event.isAvailable());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ItemSearchHit> search(String text, float rank, long lastId, Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            return index.search(text, rank, lastId, pageable);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
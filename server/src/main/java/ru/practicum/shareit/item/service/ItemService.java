@@ -3,6 +3,7 @@ package ru.practicum.shareit.item.service;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemItemRequestDto;
+import ru.practicum.shareit.pagination.CursorPage;
 
 import java.util.List;
 
@@ -12,12 +13,14 @@ public interface ItemService {
 
     ItemDto updateItem(long userId, ItemItemRequestDto itemDto);
 
-    ItemDto getItemById(long itemId, long userId);
+    ItemDto getItemById(long itemId, long userId, boolean withOwner);
 
-    List<ItemDto> getAllItemsByUserId(long userId);
+    List<ItemDto> getAllItemsByUserId(long userId, int from, int size, boolean withOwner);
 
-    List<ItemDto> textSearch(String text);
+    CursorPage<ItemDto> textSearch(String text, int from, int size, String cursor);
 
     CommentDto addComment(long userId, long itemId, CommentDto commentDto);
 
+    List<CommentDto> getComments(long itemId, int from, int size);
+
 }
\ No newline at end of file
@@ -2,26 +2,37 @@ package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dao.BookingDao;
 import ru.practicum.shareit.booking.dto.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.exception.ObjectNotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
-import ru.practicum.shareit.item.CommentRepository;
-import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.dao.CommentDao;
+import ru.practicum.shareit.item.dao.ItemDao;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.request.ItemRequestRepository;
-import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.item.model.ItemSearchHit;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.request.dao.ItemRequestDao;
+import ru.practicum.shareit.request.service.ItemRequestMatchEvent;
+import ru.practicum.shareit.request.service.ItemRequestMatcher;
+import ru.practicum.shareit.user.dao.UserDao;
+import ru.practicum.shareit.user.dto.UserMapper;
 
 import javax.transaction.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,36 +40,47 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional
 public class ItemServiceImpl implements ItemService {
-    private final ItemRepository itemRepository;
-    private final UserRepository userRepository;
-    private final BookingRepository bookingRepository;
-    private final CommentRepository commentRepository;
-    private final ItemRequestRepository itemRequestRepository;
+    private final ItemDao itemDao;
+    private final UserDao userDao;
+    private final BookingDao bookingDao;
+    private final CommentDao commentDao;
+    private final ItemRequestDao itemRequestDao;
+    private final ItemRequestMatcher itemRequestMatcher;
+    private final ItemSearch itemSearch;
+    private final ApplicationEventPublisher eventPublisher;
+    private static final int RECENT_COMMENTS = 10;
 
     @Override
     public ItemDto addItem(long userId, ItemItemRequestDto itemDto) {
         Item item = ItemMapper.INSTANCE.toItem(itemDto);
         if (itemDto.getRequestId() > 0) {
-            var request = itemRequestRepository.findById(itemDto.getRequestId());
-            if (request.isEmpty()) {
+            var request = itemRequestDao.getItemRequestById(itemDto.getRequestId());
+            if (request == null) {
                 throw new ObjectNotFoundException("Такого запроса не существует!");
             }
-            item.setRequest(request.get());
+            item.setRequest(request);
         }
-        var userOptional = userRepository.findById(userId);
+        var userOptional = userDao.findSnapshotById(userId);
         if (userOptional.isEmpty()) {
             throw new ObjectNotFoundException("Такого пользователя не существует.");
         }
-        var user = userOptional.get();
+        var user = UserMapper.INSTANCE.toUser(userOptional.get());
         item.setOwner(user);
-        return ItemMapper.INSTANCE.toItemDto(itemRepository.save(item));
+        item = itemDao.addItem(item);
+        publishSaved(item);
+        if (item.getRequest() == null && item.isAvailable()) {
+            var matches = itemRequestMatcher.match(userId, item.getName(), item.getDescription());
+            if (!matches.isEmpty()) {
+                eventPublisher.publishEvent(new ItemRequestMatchEvent(item.getId(), item.getName(), matches));
+            }
+        }
+        return ItemMapper.INSTANCE.toItemDto(item);
     }
 
     @Override
     public ItemDto updateItem(long userId, ItemItemRequestDto itemDto) {
         Item item = ItemMapper.INSTANCE.toItem(itemDto);
-        var changeItem = itemRepository.findById(itemDto.getId());
-        var currentItem = changeItem.get();
+        var currentItem = itemDao.getItemById(itemDto.getId());
 
         if (currentItem == null) {
             throw new ObjectNotFoundException("Такой вещи не существует!");
@@ -76,15 +98,23 @@ public class ItemServiceImpl implements ItemService {
         if (itemDto.getAvailable() != null) {
             currentItem.setAvailable(item.isAvailable());
         }
-        return ItemMapper.INSTANCE.toItemDto(itemRepository.save(currentItem));
+        currentItem = itemDao.updateItem(currentItem);
+        publishSaved(currentItem);
+        return ItemMapper.INSTANCE.toItemDto(currentItem);
     }
 
     @Override
-    public ItemDto getItemById(long itemId, long userId) {
-        var item = itemRepository.findById(itemId).orElseThrow(() ->
-                new ObjectNotFoundException("Вещь не найдена!"));
-        List<Comment> comments = commentRepository.findCommentsByItemId(itemId);
+    public ItemDto getItemById(long itemId, long userId, boolean withOwner) {
+        var item = itemDao.getItemById(itemId);
+        if (item == null) {
+            throw new ObjectNotFoundException("Вещь не найдена!");
+        }
+        List<Comment> comments = commentDao.findByItemIdOrderByCreatedDescIdDesc(itemId,
+                PageRequest.of(0, RECENT_COMMENTS));
         var itemDto = ItemMapper.INSTANCE.toItemDto(item);
+        if (withOwner) {
+            itemDto.setOwner(UserMapper.INSTANCE.toUserDto(item.getOwner()));
+        }
         List<CommentDto> commentsDto = new ArrayList<>();
         for (Comment comment : comments) {
             commentsDto.add(CommentMapper.INSTANCE.toCommentDto(comment));
@@ -92,112 +122,99 @@ public class ItemServiceImpl implements ItemService {
         itemDto.setComments(commentsDto);
 
         if (userId == item.getOwner().getId()) {
-            var bookings = bookingRepository.findBookingByItemIdAndStatus(item.getId(), Status.APPROVED);
-            if (bookings.size() != 0) {
-                bookings = bookings.stream()
-                        .sorted(Comparator.comparing(Booking::getStarts).reversed())
-                        .collect(Collectors.toList());
-                for (Booking booking : bookings) {
-                    if (booking.getStarts().isBefore(LocalDateTime.now())) {
-                        itemDto.setLastBooking(BookingMapper.INSTANCE.toBookingDto(booking));
-                        break;
-                    }
-                }
-                bookings = bookings.stream()
-                        .sorted(Comparator.comparing(Booking::getStarts))
-                        .collect(Collectors.toList());
-                for (Booking booking : bookings) {
-                    if (booking.getStarts().isAfter(LocalDateTime.now())) {
-                        itemDto.setNextBooking(BookingMapper.INSTANCE.toBookingDto(booking));
-                        break;
-                    }
-                }
-            }
+            LocalDateTime now = LocalDateTime.now();
+            bookingDao.findFirstByItemIdAndStatusAndStartsBeforeOrderByStartsDesc(itemId, Status.APPROVED, now)
+                    .ifPresent(booking -> itemDto.setLastBooking(BookingMapper.INSTANCE.toBookingDto(booking)));
+            bookingDao.findFirstByItemIdAndStatusAndStartsAfterOrderByStartsAsc(itemId, Status.APPROVED, now)
+                    .ifPresent(booking -> itemDto.setNextBooking(BookingMapper.INSTANCE.toBookingDto(booking)));
         }
         return itemDto;
     }
 
     @Override
-    public List<ItemDto> getAllItemsByUserId(long userId) {
+    public List<ItemDto> getAllItemsByUserId(long userId, int from, int size, boolean withOwner) {
         List<ItemDto> itemsDto = new ArrayList<>();
-        List<Item> items = itemRepository.findItemByOwnerId(userId).stream()
-                .sorted(Comparator.comparingLong(Item::getId))
-                .collect(Collectors.toList());;
+        List<Item> items = itemDao.getAllItemsByUserId(userId, new OffsetPageRequest(from, size));
+        if (items.isEmpty()) {
+            return itemsDto;
+        }
+        List<Long> itemIds = items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Booking> lastBookings = new HashMap<>();
+        Map<Long, Booking> nextBookings = new HashMap<>();
+        for (Booking booking : bookingDao.findLastAndNextApprovedBookings(itemIds, now)) {
+            if (booking.getStarts().isBefore(now)) {
+                lastBookings.put(booking.getItem().getId(), booking);
+            } else {
+                nextBookings.put(booking.getItem().getId(), booking);
+            }
+        }
+        Map<Long, List<CommentDto>> comments = commentDao.findRecentCommentsByItemIdIn(itemIds, RECENT_COMMENTS).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId(),
+                        Collectors.mapping(CommentMapper.INSTANCE::toCommentDto, Collectors.toList())));
 
         for (Item item : items) {
             var itemDto = ItemMapper.INSTANCE.toItemDto(item);
-            if (userId == item.getOwner().getId()) {
-                var bookings = bookingRepository.findBookingByItemIdAndStatus(item.getId(), Status.APPROVED);
-
-                if (bookings.size() > 0) {
-                    bookings = bookings.stream()
-                            .sorted(Comparator.comparing(Booking::getStarts).reversed())
-                            .collect(Collectors.toList());
-                    for (Booking booking : bookings) {
-                        if (booking.getStarts().isBefore(LocalDateTime.now())) {
-                            itemDto.setLastBooking(BookingMapper.INSTANCE.toBookingDto(booking));
-                            break;
-                        }
-                    }
-                    bookings = bookings.stream()
-                            .sorted(Comparator.comparing(Booking::getStarts))
-                            .collect(Collectors.toList());
-                    for (Booking booking : bookings) {
-                        if (booking.getStarts().isAfter(LocalDateTime.now())) {
-                            itemDto.setNextBooking(BookingMapper.INSTANCE.toBookingDto(booking));
-                            break;
-                        }
-                    }
-                }
+            if (withOwner) {
+                itemDto.setOwner(UserMapper.INSTANCE.toUserDto(item.getOwner()));
+            }
+            var lastBooking = lastBookings.get(item.getId());
+            if (lastBooking != null) {
+                itemDto.setLastBooking(BookingMapper.INSTANCE.toBookingDto(lastBooking));
             }
-            List<Comment> comments = commentRepository.findCommentsByItemId(item.getId());
-            List<CommentDto> commentsDto = new ArrayList<>();
-            for (Comment comment : comments) {
-                commentsDto.add(CommentMapper.INSTANCE.toCommentDto(comment));
+            var nextBooking = nextBookings.get(item.getId());
+            if (nextBooking != null) {
+                itemDto.setNextBooking(BookingMapper.INSTANCE.toBookingDto(nextBooking));
             }
-            itemDto.setComments(commentsDto);
+            itemDto.setComments(comments.getOrDefault(item.getId(), new ArrayList<>()));
             itemsDto.add(itemDto);
         }
         return itemsDto;
     }
 
     @Override
-    public List<ItemDto> textSearch(String text) {
+    public CursorPage<ItemDto> textSearch(String text, int from, int size, String cursor) {
         List<ItemDto> itemsDto = new ArrayList<>();
         if (text.isBlank()) {
-            return itemsDto;
-        }
-        List<Item> items = itemRepository.search(text);
-        for (Item item : items) {
-            if (item.isAvailable()) {
+            return new CursorPage<>(itemsDto, null);
+        }
+        Cursor position = Cursor.page(cursor, from, size, Float.MAX_VALUE, 0L);
+        List<ItemSearchHit> hits = itemSearch.search(text, position.getFloat(0), position.getLong(1),
+                position.getPageable());
+        Map<Long, Item> items = itemDao.getItemsByIds(hits.stream()
+                        .map(ItemSearchHit::getId)
+                        .collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        for (ItemSearchHit hit : hits) {
+            Item item = items.get(hit.getId());
+            if (item != null) {
                 itemsDto.add(ItemMapper.INSTANCE.toItemDto(item));
             }
         }
-        return itemsDto;
+        String nextCursor = null;
+        if (hits.size() == size) {
+            ItemSearchHit last = hits.get(hits.size() - 1);
+            nextCursor = Cursor.encode(last.getRank(), last.getId());
+        }
+        return new CursorPage<>(itemsDto, nextCursor);
     }
 
     @Override
     public CommentDto addComment(long userId, long itemId, CommentDto commentDto) {
-        var itemOptional = itemRepository.findById(itemId);
-        if (itemOptional.isEmpty()) {
+        var item = itemDao.getItemById(itemId);
+        if (item == null) {
             throw new ObjectNotFoundException("Такой вещи нет.");
         }
-        var item = itemOptional.get();
-        var userOptional = userRepository.findById(userId);
+        var userOptional = userDao.findSnapshotById(userId);
         if (userOptional.isEmpty()) {
             throw new ObjectNotFoundException("Такого пользователя не существует.");
         }
-        var user = userOptional.get();
-        List<Booking> bookings = bookingRepository.findBookingByItemId(itemId);
-        boolean isExist = false;
-        for (Booking booking : bookings) {
-            if (booking.getBooker().getId() == userId
-                    && booking.getStarts().isBefore(LocalDateTime.now())
-                    && booking.getStatus().equals(Status.APPROVED)) {
-                isExist = true;
-                break;
-            }
-        }
+        var user = UserMapper.INSTANCE.toUser(userOptional.get());
+        boolean isExist = bookingDao.existsByItemIdAndBookerIdAndStatusAndStartsBefore(itemId, userId,
+                Status.APPROVED, LocalDateTime.now());
         if (!isExist) {
             throw new ValidationException("Этой вещью не пользовался данный пользователь.");
         }
@@ -205,6 +222,24 @@ public class ItemServiceImpl implements ItemService {
         comment.setAuthor(user);
         comment.setItem(item);
         comment.setCreated(LocalDateTime.now());
-        return CommentMapper.INSTANCE.toCommentDto(commentRepository.save(comment));
+        comment = commentDao.addComment(comment);
+        itemDao.incrementCommentCount(itemId);
+        return CommentMapper.INSTANCE.toCommentDto(comment);
+    }
+
+    @Override
+    public List<CommentDto> getComments(long itemId, int from, int size) {
+        if (itemDao.getItemById(itemId) == null) {
+            throw new ObjectNotFoundException("Вещь не найдена!");
+        }
+        return commentDao.findByItemIdOrderByCreatedDescIdDesc(itemId, new OffsetPageRequest(from, size))
+                .stream()
+                .map(CommentMapper.INSTANCE::toCommentDto)
+                .collect(Collectors.toList());
+    }
+
+    private void publishSaved(Item item) {
+        eventPublisher.publishEvent(new ItemSavedEvent(item.getId(), item.getName(), item.getDescription(),
+                item.isAvailable(), item.getRequest() == null ? null : item.getRequest().getId()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package ru.practicum.shareit.pagination;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+
+public final class Cursor {
+    public static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final String SEPARATOR = "|";
+
+    private final String token;
+    private final String[] values;
+    private final Pageable pageable;
+
+    private Cursor(String token, String[] values, Pageable pageable) {
+        this.token = token;
+        this.values = values;
+        this.pageable = pageable;
+    }
+
+    public static Cursor page(String token, int from, int size, Object... firstPage) {
+        if (token == null) {
+            return new Cursor(null, format(firstPage), new OffsetPageRequest(from, size));
+        }
+        return new Cursor(token, decode(token, firstPage.length), new OffsetPageRequest(0, size));
+    }
+
+    public static String encode(Object... values) {
+        String raw = String.join(SEPARATOR, format(values));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Pageable getPageable() {
+        return pageable;
+    }
+
+    public long getLong(int index) {
+        return parse(index, Long::parseLong);
+    }
+
+    public float getFloat(int index) {
+        return parse(index, Float::parseFloat);
+    }
+
+    public LocalDateTime getDateTime(int index) {
+        return parse(index, LocalDateTime::parse);
+    }
+
+    private static String[] format(Object[] values) {
+        return Arrays.stream(values)
+                .map(String::valueOf)
+                .toArray(String[]::new);
+    }
+
+    private static String[] decode(String token, int length) {
+        String[] values;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            values = raw.split("\\" + SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw invalid(token);
+        }
+        if (values.length != length) {
+            throw invalid(token);
+        }
+        return values;
+    }
+
+    private <T> T parse(int index, Function<String, T> parser) {
+        try {
+            return parser.apply(values[index]);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw invalid(token);
+        }
+    }
+
+    private static ValidationException invalid(String token) {
+        return new ValidationException("Некорректный курсор: " + token);
+    }
+}
@@ -1,10 +1,14 @@
 package ru.practicum.shareit.request;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestResponseDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
@@ -14,17 +18,50 @@ import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import java.net.URI;
 import java.util.List;
+import java.util.Objects;
 
 @RestController
+@Validated
 @RequestMapping(path = "/requests")
 @Slf4j
 @RequiredArgsConstructor
 public class ItemRequestController {
+    private static final int DEFAULT_PAGE_SIZE = 20;
     private final ItemRequestService itemRequestService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<List<ItemRequestResponseDto>> getItemsByUserId(@RequestHeader("X-Sharer-User-Id") long userId) {
-        return ResponseEntity.ok().body(itemRequestService.getItemsRequests(userId));
+    public ResponseEntity<List<ItemRequestResponseDto>> getItemsByUserId(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                  @RequestParam(required = false) @Min(0) Integer from,
+                                                  @RequestParam(required = false) @Min(1) @Max(100) Integer size,
+                                                  @RequestParam(required = false) String cursor) {
+        if (from == null && size == null && cursor == null) {
+            return ResponseEntity.ok().body(itemRequestService.getItemsRequests(userId));
+        }
+        var page = itemRequestService.getItemsRequests(userId, Objects.requireNonNullElse(from, 0),
+                Objects.requireNonNullElse(size, DEFAULT_PAGE_SIZE), cursor);
+        return ResponseEntity.ok().headers(page.headers()).body(page.getContent());
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamItemsByUserId(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                  @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size) {
+        var firstPage = itemRequestService.getItemsRequests(userId, 0, size, null);
+        StreamingResponseBody body = out -> {
+            var page = firstPage;
+            while (true) {
+                for (ItemRequestResponseDto request : page.getContent()) {
+                    out.write(objectMapper.writeValueAsBytes(request));
+                    out.write('\n');
+                }
+                out.flush();
+                if (page.getNextCursor() == null) {
+                    break;
+                }
+                page = itemRequestService.getItemsRequests(userId, 0, size, page.getNextCursor());
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @PostMapping
@@ -38,8 +75,10 @@ public class ItemRequestController {
     @GetMapping("/all")
     public ResponseEntity<List<ItemRequestResponseDto>> returnAll(@RequestHeader("X-Sharer-User-Id") long userId,
                                                   @RequestParam(defaultValue = "0") @Min(0) Integer from,
-                                                  @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size) {
-        return ResponseEntity.ok().body(itemRequestService.getAllRequests(userId, from, size));
+                                                  @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
+                                                  @RequestParam(required = false) String cursor) {
+        var page = itemRequestService.getAllRequests(userId, from, size, cursor);
+        return ResponseEntity.ok().headers(page.headers()).body(page.getContent());
     }
 
     @GetMapping("/{requestId}")
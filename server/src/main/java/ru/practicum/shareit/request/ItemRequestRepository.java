@@ -1,17 +1,32 @@
 package ru.practicum.shareit.request;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
 
-    List<ItemRequest> findItemRequestsByRequesterId(long requesterId);
+    @Query("select r from ItemRequest r " +
+            "where r.requester.id = ?1 " +
+            "and (r.created < ?2 or (r.created = ?2 and r.id < ?3)) " +
+            "order by r.created desc, r.id desc")
+    List<ItemRequest> findByRequesterId(long requesterId, LocalDateTime cursorCreated, long cursorId,
+                                        Pageable pageable);
 
-    Page<ItemRequest> findByOrderByCreatedDesc(Pageable pageable);
-}
\ No newline at end of file
+    @Query("select r from ItemRequest r " +
+            "where r.requester.id <> ?1 " +
+            "and (r.created < ?2 or (r.created = ?2 and r.id < ?3)) " +
+            "order by r.created desc, r.id desc")
+    List<ItemRequest> findOtherUsersRequests(long userId, LocalDateTime cursorCreated, long cursorId,
+                                             Pageable pageable);
+
+    @Query("select r from ItemRequest r join fetch r.requester " +
+            "where not exists (select i.id from Item i where i.request = r)")
+    List<ItemRequest> findOpenRequests();
+}
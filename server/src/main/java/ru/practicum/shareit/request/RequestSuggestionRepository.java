@@ -0,0 +1,20 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.request.dto.ItemRequestResponseDtoItem;
+import ru.practicum.shareit.request.model.RequestSuggestion;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RequestSuggestionRepository extends JpaRepository<RequestSuggestion, Long> {
+
+    @Query("select new ru.practicum.shareit.request.dto.ItemRequestResponseDtoItem(" +
+            "i.id, i.name, i.description, s.requestId, i.available) " +
+            "from RequestSuggestion s, Item i where i.id = s.itemId and s.requestId in ?1 " +
+            "order by s.requestId, s.score desc, s.id")
+    List<ItemRequestResponseDtoItem> findSuggestedItemsByRequestIdIn(Collection<Long> requestIds);
+}
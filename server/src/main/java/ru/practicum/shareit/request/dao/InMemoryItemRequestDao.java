@@ -0,0 +1,222 @@
+package ru.practicum.shareit.request.dao;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.dao.ItemDao;
+import ru.practicum.shareit.request.dto.ItemRequestResponseDtoItem;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.storage.ChangeLog;
+import ru.practicum.shareit.storage.ChangeLogFactory;
+import ru.practicum.shareit.user.dao.UserDao;
+import ru.practicum.shareit.user.dao.UserReferences;
+import ru.practicum.shareit.user.model.User;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Repository
+@Profile("memory")
+@Slf4j
+public class InMemoryItemRequestDao implements ItemRequestDao, UserReferences {
+    private static final Comparator<RequestRecord> NEWEST_FIRST = Comparator.comparing(RequestRecord::getCreated)
+            .thenComparingLong(RequestRecord::getId)
+            .reversed();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, RequestRecord> requests = new HashMap<>();
+    private final NavigableSet<RequestRecord> requestsByCreated = new TreeSet<>(NEWEST_FIRST);
+    private final Map<Long, NavigableSet<RequestRecord>> requestsByRequester = new HashMap<>();
+    private final AtomicLong requestId = new AtomicLong();
+    private final ItemDao itemDao;
+    private final UserDao userDao;
+    private final InMemoryRequestSuggestionDao suggestionDao;
+    private final ChangeLog<RequestRecord> changeLog;
+
+    public InMemoryItemRequestDao(ItemDao itemDao, UserDao userDao, InMemoryRequestSuggestionDao suggestionDao,
+                                  ChangeLogFactory changeLogs) {
+        this.itemDao = itemDao;
+        this.userDao = userDao;
+        this.suggestionDao = suggestionDao;
+        changeLog = changeLogs.open("requests", RequestRecord.class, RequestRecord::getId);
+        for (RequestRecord record : changeLog.load(this::records).values()) {
+            put(record);
+            requestId.accumulateAndGet(record.getId(), Math::max);
+        }
+    }
+
+    @Override
+    public ItemRequest addItemRequest(ItemRequest itemRequest) {
+        itemRequest.setId(requestId.incrementAndGet());
+        if (itemRequest.getCreated() == null) {
+            itemRequest.setCreated(LocalDateTime.now());
+        }
+        RequestRecord record = new RequestRecord(itemRequest.getId(), itemRequest.getDescription(),
+                itemRequest.getRequester().getId(), itemRequest.getCreated());
+        changeLog.write(() -> {
+            lock.writeLock().lock();
+            try {
+                put(record);
+                changeLog.put(record);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+        log.info("Добавлен новый запрос вещи: {}", itemRequest.getId());
+        return itemRequest;
+    }
+
+    @Override
+    public ItemRequest getItemRequestById(long id) {
+        RequestRecord record;
+        lock.readLock().lock();
+        try {
+            record = requests.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return record == null ? null : toItemRequest(record);
+    }
+
+    @Override
+    public List<ItemRequest> findByRequesterId(long requesterId, LocalDateTime cursorCreated, long cursorId,
+                                               Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            NavigableSet<RequestRecord> posting = requestsByRequester.get(requesterId);
+            if (posting == null) {
+                return new ArrayList<>();
+            }
+            return page(posting, cursorCreated, cursorId, record -> true, pageable);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ItemRequest> findOtherUsersRequests(long userId, LocalDateTime cursorCreated, long cursorId,
+                                                    Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            return page(requestsByCreated, cursorCreated, cursorId, record -> record.getRequesterId() != userId,
+                    pageable);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ItemRequest> findOpenRequests() {
+        List<RequestRecord> records = records();
+        Set<Long> answered = itemDao.findRequestItemsByRequestIdIn(records.stream()
+                        .map(RequestRecord::getId)
+                        .collect(Collectors.toList())).stream()
+                .map(ItemRequestResponseDtoItem::getRequestId)
+                .collect(Collectors.toSet());
+        return records.stream()
+                .filter(record -> !answered.contains(record.getId()))
+                .map(this::toItemRequest)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void checkRestricted(long userId) {
+        List<Long> requestIds;
+        lock.readLock().lock();
+        try {
+            requestIds = requestsByRequester.getOrDefault(userId, Collections.emptyNavigableSet()).stream()
+                    .map(RequestRecord::getId)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (!requestIds.isEmpty() && !itemDao.findRequestItemsByRequestIdIn(requestIds).isEmpty()) {
+            throw new DataIntegrityViolationException("Нельзя удалить пользователя, на запросы которого уже ответили!");
+        }
+    }
+
+    @Override
+    public void deleteByUserId(long userId) {
+        List<Long> removed = new ArrayList<>();
+        changeLog.write(() -> {
+            lock.writeLock().lock();
+            try {
+                NavigableSet<RequestRecord> posting = requestsByRequester.remove(userId);
+                if (posting == null) {
+                    return;
+                }
+                for (RequestRecord record : posting) {
+                    requests.remove(record.getId());
+                    requestsByCreated.remove(record);
+                    changeLog.delete(record.getId());
+                    removed.add(record.getId());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+        suggestionDao.deleteByRequestIdIn(removed);
+        log.info("Удалено запросов пользователя {}: {}", userId, removed.size());
+    }
+
+    @PreDestroy
+    public void close() {
+        changeLog.close();
+    }
+
+    private List<ItemRequest> page(NavigableSet<RequestRecord> posting, LocalDateTime cursorCreated, long cursorId,
+                                   Predicate<RequestRecord> filter, Pageable pageable) {
+        return posting.tailSet(new RequestRecord(cursorId, null, 0, cursorCreated), false).stream()
+                .filter(filter)
+                .skip(pageable.isPaged() ? pageable.getOffset() : 0)
+                .limit(pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE)
+                .map(this::toItemRequest)
+                .collect(Collectors.toList());
+    }
+
+    private void put(RequestRecord record) {
+        requests.put(record.getId(), record);
+        requestsByCreated.add(record);
+        requestsByRequester.computeIfAbsent(record.getRequesterId(), key -> new TreeSet<>(NEWEST_FIRST)).add(record);
+    }
+
+    private List<RequestRecord> records() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(requests.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private ItemRequest toItemRequest(RequestRecord record) {
+        User requester = userDao.getUserById(record.getRequesterId());
+        return ItemRequest.builder()
+                .id(record.getId())
+                .description(record.getDescription())
+                .requester(requester != null ? requester : User.builder().id(record.getRequesterId()).build())
+                .created(record.getCreated())
+                .build();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class RequestRecord {
+        private long id;
+        private String description;
+        private long requesterId;
+        private LocalDateTime created;
+    }
+}
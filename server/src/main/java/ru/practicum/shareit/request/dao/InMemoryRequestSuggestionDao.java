@@ -0,0 +1,135 @@
+package ru.practicum.shareit.request.dao;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.dao.ItemDao;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestResponseDtoItem;
+import ru.practicum.shareit.request.model.RequestSuggestion;
+import ru.practicum.shareit.storage.ChangeLog;
+import ru.practicum.shareit.storage.ChangeLogFactory;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Repository
+@Profile("memory")
+@Slf4j
+public class InMemoryRequestSuggestionDao implements RequestSuggestionDao {
+    private static final Comparator<RequestSuggestion> BEST_FIRST = Comparator
+            .comparingDouble(RequestSuggestion::getScore)
+            .reversed()
+            .thenComparingLong(RequestSuggestion::getId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, RequestSuggestion> suggestions = new HashMap<>();
+    private final Map<Long, NavigableSet<RequestSuggestion>> suggestionsByRequest = new HashMap<>();
+    private final AtomicLong suggestionId = new AtomicLong();
+    private final ItemDao itemDao;
+    private final ChangeLog<RequestSuggestion> changeLog;
+
+    public InMemoryRequestSuggestionDao(ItemDao itemDao, ChangeLogFactory changeLogs) {
+        this.itemDao = itemDao;
+        changeLog = changeLogs.open("suggestions", RequestSuggestion.class, RequestSuggestion::getId);
+        for (RequestSuggestion suggestion : changeLog.load(this::records).values()) {
+            put(suggestion);
+            suggestionId.accumulateAndGet(suggestion.getId(), Math::max);
+        }
+    }
+
+    @Override
+    public void addSuggestions(List<RequestSuggestion> added) {
+        changeLog.write(() -> {
+            lock.writeLock().lock();
+            try {
+                for (RequestSuggestion suggestion : added) {
+                    NavigableSet<RequestSuggestion> posting = suggestionsByRequest.get(suggestion.getRequestId());
+                    if (posting != null && posting.stream()
+                            .anyMatch(existing -> existing.getItemId().equals(suggestion.getItemId()))) {
+                        throw new DataIntegrityViolationException("Вещь уже предложена по этому запросу!");
+                    }
+                }
+                for (RequestSuggestion suggestion : added) {
+                    suggestion.setId(suggestionId.incrementAndGet());
+                    put(suggestion);
+                    changeLog.put(suggestion);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+        log.info("Сохранено предложений по запросам: {}", added.size());
+    }
+
+    @Override
+    public List<ItemRequestResponseDtoItem> findSuggestedItemsByRequestIdIn(Collection<Long> requestIds) {
+        List<RequestSuggestion> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long requestId : new TreeSet<>(requestIds)) {
+                NavigableSet<RequestSuggestion> posting = suggestionsByRequest.get(requestId);
+                if (posting != null) {
+                    found.addAll(posting);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<ItemRequestResponseDtoItem> items = new ArrayList<>();
+        for (RequestSuggestion suggestion : found) {
+            Item item = itemDao.getItemById(suggestion.getItemId());
+            if (item != null) {
+                items.add(new ItemRequestResponseDtoItem(item.getId(), item.getName(), item.getDescription(),
+                        suggestion.getRequestId(), item.isAvailable()));
+            }
+        }
+        return items;
+    }
+
+    public void deleteByRequestIdIn(Collection<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return;
+        }
+        changeLog.write(() -> {
+            lock.writeLock().lock();
+            try {
+                for (Long requestId : requestIds) {
+                    NavigableSet<RequestSuggestion> posting = suggestionsByRequest.remove(requestId);
+                    if (posting != null) {
+                        for (RequestSuggestion suggestion : posting) {
+                            suggestions.remove(suggestion.getId());
+                            changeLog.delete(suggestion.getId());
+                        }
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        changeLog.close();
+    }
+
+    private void put(RequestSuggestion suggestion) {
+        suggestions.put(suggestion.getId(), suggestion);
+        suggestionsByRequest.computeIfAbsent(suggestion.getRequestId(), key -> new TreeSet<>(BEST_FIRST))
+                .add(suggestion);
+    }
+
+    private List<RequestSuggestion> records() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(suggestions.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.request.dao;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.request.model.ItemRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ItemRequestDao {
+
+    ItemRequest addItemRequest(ItemRequest itemRequest);
+
+    ItemRequest getItemRequestById(long id);
+
+    List<ItemRequest> findByRequesterId(long requesterId, LocalDateTime cursorCreated, long cursorId,
+                                        Pageable pageable);
+
+    List<ItemRequest> findOtherUsersRequests(long userId, LocalDateTime cursorCreated, long cursorId,
+                                             Pageable pageable);
+
+    List<ItemRequest> findOpenRequests();
+
+}
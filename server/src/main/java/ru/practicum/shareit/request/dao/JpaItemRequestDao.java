@@ -0,0 +1,45 @@
+package ru.practicum.shareit.request.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@Profile("!memory")
+@RequiredArgsConstructor
+public class JpaItemRequestDao implements ItemRequestDao {
+    private final ItemRequestRepository itemRequestRepository;
+
+    @Override
+    public ItemRequest addItemRequest(ItemRequest itemRequest) {
+        return itemRequestRepository.save(itemRequest);
+    }
+
+    @Override
+    public ItemRequest getItemRequestById(long id) {
+        return itemRequestRepository.findById(id).orElse(null);
+    }
+
+    @Override
+    public List<ItemRequest> findByRequesterId(long requesterId, LocalDateTime cursorCreated, long cursorId,
+                                               Pageable pageable) {
+        return itemRequestRepository.findByRequesterId(requesterId, cursorCreated, cursorId, pageable);
+    }
+
+    @Override
+    public List<ItemRequest> findOtherUsersRequests(long userId, LocalDateTime cursorCreated, long cursorId,
+                                                    Pageable pageable) {
+        return itemRequestRepository.findOtherUsersRequests(userId, cursorCreated, cursorId, pageable);
+    }
+
+    @Override
+    public List<ItemRequest> findOpenRequests() {
+        return itemRequestRepository.findOpenRequests();
+    }
+}
@@ -0,0 +1,28 @@
+package ru.practicum.shareit.request.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.request.RequestSuggestionRepository;
+import ru.practicum.shareit.request.dto.ItemRequestResponseDtoItem;
+import ru.practicum.shareit.request.model.RequestSuggestion;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@Profile("!memory")
+@RequiredArgsConstructor
+public class JpaRequestSuggestionDao implements RequestSuggestionDao {
+    private final RequestSuggestionRepository requestSuggestionRepository;
+
+    @Override
+    public void addSuggestions(List<RequestSuggestion> suggestions) {
+        requestSuggestionRepository.saveAll(suggestions);
+    }
+
+    @Override
+    public List<ItemRequestResponseDtoItem> findSuggestedItemsByRequestIdIn(Collection<Long> requestIds) {
+        return requestSuggestionRepository.findSuggestedItemsByRequestIdIn(requestIds);
+    }
+}
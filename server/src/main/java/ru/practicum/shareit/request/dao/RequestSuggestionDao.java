@@ -0,0 +1,15 @@
+package ru.practicum.shareit.request.dao;
+
+import ru.practicum.shareit.request.dto.ItemRequestResponseDtoItem;
+import ru.practicum.shareit.request.model.RequestSuggestion;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RequestSuggestionDao {
+
+    void addSuggestions(List<RequestSuggestion> suggestions);
+
+    List<ItemRequestResponseDtoItem> findSuggestedItemsByRequestIdIn(Collection<Long> requestIds);
+
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,4 +18,6 @@ public class ItemRequestResponseDto {
     private String description;
     private List<ItemRequestResponseDtoItem> items;
     private LocalDateTime created;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<ItemRequestResponseDtoItem> suggestions;
 }
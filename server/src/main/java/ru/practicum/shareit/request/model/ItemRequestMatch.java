@@ -0,0 +1,14 @@
+package ru.practicum.shareit.request.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class ItemRequestMatch {
+    private final long requestId;
+    private final long requesterId;
+    private final double score;
+}
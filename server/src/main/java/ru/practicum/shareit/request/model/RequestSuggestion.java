@@ -0,0 +1,29 @@
+package ru.practicum.shareit.request.model;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "request_suggestions", schema = "public")
+public class RequestSuggestion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "request_id", nullable = false)
+    private Long requestId;
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+    @Column(name = "score", nullable = false)
+    private double score;
+    @Column(name = "created")
+    private LocalDateTime created;
+}
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.request.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.practicum.shareit.request.model.ItemRequestMatch;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ItemRequestMatchEvent {
+    private final long itemId;
+    private final String itemName;
+    private final List<ItemRequestMatch> matches;
+}
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.request.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.request.dao.RequestSuggestionDao;
+import ru.practicum.shareit.request.model.ItemRequestMatch;
+import ru.practicum.shareit.request.model.RequestSuggestion;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ItemRequestMatchListener {
+    private final RequestSuggestionDao requestSuggestionDao;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMatch(ItemRequestMatchEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        List<RequestSuggestion> suggestions = new ArrayList<>();
+        for (ItemRequestMatch match : event.getMatches()) {
+            suggestions.add(RequestSuggestion.builder()
+                    .requestId(match.getRequestId())
+                    .itemId(event.getItemId())
+                    .score(match.getScore())
+                    .created(now)
+                    .build());
+            log.info("Пользователю {} предложена вещь {} ({}) по запросу {}, совпадение {}",
+                    match.getRequesterId(), event.getItemId(), event.getItemName(), match.getRequestId(),
+                    match.getScore());
+        }
+        requestSuggestionDao.addSuggestions(suggestions);
+    }
+}
@@ -0,0 +1,135 @@
+package ru.practicum.shareit.request.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.service.ItemSavedEvent;
+import ru.practicum.shareit.request.dao.ItemRequestDao;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.ItemRequestMatch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ItemRequestMatcher {
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_TOKEN_LENGTH = 3;
+    private static final double MIN_SCORE = 0.5;
+    private static final int MAX_MATCHES = 5;
+
+    private final ItemRequestDao itemRequestDao;
+    private final Map<String, Set<Long>> requestsByToken = new ConcurrentHashMap<>();
+    private final Map<Long, OpenRequest> openRequests = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (ItemRequest itemRequest : itemRequestDao.findOpenRequests()) {
+            add(itemRequest.getId(), itemRequest.getRequester().getId(), itemRequest.getDescription());
+        }
+        log.info("Индекс открытых запросов построен, запросов: {}", openRequests.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRequestSaved(ItemRequestSavedEvent event) {
+        add(event.getRequestId(), event.getRequesterId(), event.getDescription());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemSaved(ItemSavedEvent event) {
+        if (event.getRequestId() != null) {
+            remove(event.getRequestId());
+        }
+    }
+
+    private void add(long requestId, long requesterId, String description) {
+        Set<String> tokens = tokenize(description);
+        if (tokens.isEmpty()) {
+            return;
+        }
+        openRequests.put(requestId, new OpenRequest(requesterId, tokens));
+        for (String token : tokens) {
+            requestsByToken.compute(token, (key, ids) -> {
+                Set<Long> result = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+                result.add(requestId);
+                return result;
+            });
+        }
+    }
+
+    private void remove(long requestId) {
+        OpenRequest request = openRequests.remove(requestId);
+        if (request == null) {
+            return;
+        }
+        for (String token : request.getTokens()) {
+            requestsByToken.computeIfPresent(token, (key, ids) -> {
+                ids.remove(requestId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public List<ItemRequestMatch> match(long ownerId, String... texts) {
+        Set<String> tokens = new HashSet<>();
+        for (String text : texts) {
+            tokens.addAll(tokenize(text));
+        }
+        Map<Long, Integer> hits = new HashMap<>();
+        for (String token : tokens) {
+            Set<Long> ids = requestsByToken.get(token);
+            if (ids != null) {
+                for (Long id : ids) {
+                    hits.merge(id, 1, Integer::sum);
+                }
+            }
+        }
+        List<ItemRequestMatch> matches = new ArrayList<>();
+        for (Map.Entry<Long, Integer> hit : hits.entrySet()) {
+            OpenRequest request = openRequests.get(hit.getKey());
+            if (request == null || request.getRequesterId() == ownerId) {
+                continue;
+            }
+            double score = (double) hit.getValue() / request.getTokens().size();
+            if (score >= MIN_SCORE) {
+                matches.add(new ItemRequestMatch(hit.getKey(), request.getRequesterId(), score));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(ItemRequestMatch::getScore).reversed());
+        return matches.size() > MAX_MATCHES ? new ArrayList<>(matches.subList(0, MAX_MATCHES)) : matches;
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : SEPARATOR.split(text.toLowerCase())) {
+            if (token.length() >= MIN_TOKEN_LENGTH) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class OpenRequest {
+        private final long requesterId;
+        private final Set<String> tokens;
+    }
+}
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.request.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ItemRequestSavedEvent {
+    private final long requestId;
+    private final long requesterId;
+    private final String description;
+}
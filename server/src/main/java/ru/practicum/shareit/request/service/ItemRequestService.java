@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.service;
 
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestResponseDto;
 
@@ -11,7 +12,9 @@ public interface ItemRequestService {
 
     List<ItemRequestResponseDto> getItemsRequests(long userId);
 
-    List<ItemRequestResponseDto> getAllRequests(long userId, int from, int size);
+    CursorPage<ItemRequestResponseDto> getItemsRequests(long userId, int from, int size, String cursor);
+
+    CursorPage<ItemRequestResponseDto> getAllRequests(long userId, int from, int size, String cursor);
 
     ItemRequestResponseDto getRequestById(long userId, long requestId);
 }
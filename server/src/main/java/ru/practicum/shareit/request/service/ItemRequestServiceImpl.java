@@ -2,24 +2,28 @@ package ru.practicum.shareit.request.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.exception.ObjectNotFoundException;
-import ru.practicum.shareit.item.ItemRepository;
-import ru.practicum.shareit.item.dto.ItemMapper;
-import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.item.dao.ItemDao;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.request.dao.ItemRequestDao;
+import ru.practicum.shareit.request.dao.RequestSuggestionDao;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestMapper;
 import ru.practicum.shareit.request.dto.ItemRequestResponseDto;
+import ru.practicum.shareit.request.dto.ItemRequestResponseDtoItem;
 import ru.practicum.shareit.request.model.ItemRequest;
-import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.dao.UserDao;
+import ru.practicum.shareit.user.dto.UserMapper;
 
 import javax.transaction.Transactional;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,87 +31,120 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional
 public class ItemRequestServiceImpl implements ItemRequestService {
-    private final ItemRequestRepository itemRequestRepository;
-    private final UserRepository userRepository;
-    private final ItemRepository itemRepository;
+    private final ItemRequestDao itemRequestDao;
+    private final UserDao userDao;
+    private final ItemDao itemDao;
+    private final RequestSuggestionDao requestSuggestionDao;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ItemRequestDto addItemRequest(long userId, ItemRequestDto itemRequestDto) {
-        var userOptional = userRepository.findById(userId);
+        var userOptional = userDao.findSnapshotById(userId);
         if (userOptional.isEmpty()) {
             throw new ObjectNotFoundException("Такого пользователя не существует!");
         }
-        var user = userOptional.get();
+        var user = UserMapper.INSTANCE.toUser(userOptional.get());
         ItemRequest itemRequest = ItemRequestMapper.INSTANCE.toItemRequest(itemRequestDto);
         itemRequest.setRequester(user);
-        itemRequest = itemRequestRepository.save(itemRequest);
+        itemRequest = itemRequestDao.addItemRequest(itemRequest);
+        eventPublisher.publishEvent(new ItemRequestSavedEvent(itemRequest.getId(), user.getId(),
+                itemRequest.getDescription()));
         return ItemRequestMapper.INSTANCE.toItemRequestDto(itemRequest);
     }
 
     @Override
     public List<ItemRequestResponseDto> getItemsRequests(long userId) {
-        userRepository.findById(userId).orElseThrow(() -> new ObjectNotFoundException("Пользователь с id %d не найден"));
-        var itemRequests = itemRequestRepository.findItemRequestsByRequesterId(userId);
-        List<Long> requestIds = itemRequests.stream()
-                .map(ItemRequest::getId)
-                .collect(Collectors.toList());
-        List<Item> itemList = itemRepository.findItemsByRequestIdIn(requestIds);
-        List<ItemRequestResponseDto> result = itemRequests.stream()
-                .map(ItemRequestMapper.INSTANCE::toItemRequestResponseDto)
-                .collect(Collectors.toList());
-        for (ItemRequestResponseDto itemRequestResponseDto : result) {
-            if (itemRequestResponseDto.getItems() == null) {
-                itemRequestResponseDto.setItems(new ArrayList<>());
-            }
-            for (Item item : itemList) {
-                if (Objects.equals(item.getRequest().getId(), itemRequestResponseDto.getId())) {
-                    itemRequestResponseDto.getItems().add(ItemMapper.INSTANCE.toItemRequestResponseDtoItem(item));
-                }
-            }
-        }
+        userDao.findSnapshotById(userId).orElseThrow(() -> new ObjectNotFoundException("Пользователь с id %d не найден"));
+        List<ItemRequestResponseDto> result = toResponses(itemRequestDao.findByRequesterId(userId,
+                Cursor.LATEST, Long.MAX_VALUE, Pageable.unpaged()));
+        attachSuggestions(result);
         return result;
     }
 
     @Override
-    public List<ItemRequestResponseDto> getAllRequests(long userId, int from, int size) {
-        int offsets = from > 0 ? from / size : 0;
-        PageRequest page = PageRequest.of(offsets, size);
-        Page<ItemRequest> itemRequestList = itemRequestRepository.findByOrderByCreatedDesc(page);
-        List<Long> requestIds = itemRequestList.stream()
-                .map(ItemRequest::getId)
-                .collect(Collectors.toList());
-        List<Item> itemList = itemRepository.findItemsByRequestIdIn(requestIds);
-        var result = itemRequestList.stream()
-                .map(ItemRequestMapper.INSTANCE::toItemRequestResponseDto)
-                .collect(Collectors.toList());
-        result = result.stream()
-                .filter(item -> item.getId() != userId)
-                .collect(Collectors.toList());
-
-        for (ItemRequestResponseDto itemRequestResponseDto : result) {
-            if (itemRequestResponseDto.getItems() == null) {
-                itemRequestResponseDto.setItems(new ArrayList<>());
-            }
-            for (Item item : itemList) {
-                if (Objects.equals(item.getRequest().getId(), itemRequestResponseDto.getId())) {
-                    itemRequestResponseDto.getItems().add(ItemMapper.INSTANCE.toItemRequestResponseDtoItem(item));
-                }
-            }
-        }
+    public CursorPage<ItemRequestResponseDto> getItemsRequests(long userId, int from, int size, String cursor) {
+        userDao.findSnapshotById(userId).orElseThrow(() -> new ObjectNotFoundException("Пользователь с id %d не найден"));
+        Cursor position = Cursor.page(cursor, from, size, Cursor.LATEST, Long.MAX_VALUE);
+        LocalDateTime cursorCreated = position.getDateTime(0);
+        long cursorId = position.getLong(1);
+        Pageable page = position.getPageable();
+        CursorPage<ItemRequestResponseDto> result = toRequestPage(
+                itemRequestDao.findByRequesterId(userId, cursorCreated, cursorId, page), size);
+        attachSuggestions(result.getContent());
         return result;
     }
 
+    @Override
+    public CursorPage<ItemRequestResponseDto> getAllRequests(long userId, int from, int size, String cursor) {
+        Cursor position = Cursor.page(cursor, from, size, Cursor.LATEST, Long.MAX_VALUE);
+        LocalDateTime cursorCreated = position.getDateTime(0);
+        long cursorId = position.getLong(1);
+        Pageable page = position.getPageable();
+        return toRequestPage(itemRequestDao.findOtherUsersRequests(userId, cursorCreated, cursorId, page),
+                size);
+    }
+
     @Override
     public ItemRequestResponseDto getRequestById(long userId, long requestId) {
-        userRepository.findById(userId).orElseThrow(() -> new ObjectNotFoundException("Пользователь с id %d не найден"));
-        ItemRequest itemRequest = itemRequestRepository.findById(requestId).orElseThrow(
-                () -> new ObjectNotFoundException("Пользователь с id не найден"));
-        List<Item> itemList = itemRepository.findItemsByRequestId(requestId);
+        userDao.findSnapshotById(userId).orElseThrow(() -> new ObjectNotFoundException("Пользователь с id %d не найден"));
+        ItemRequest itemRequest = itemRequestDao.getItemRequestById(requestId);
+        if (itemRequest == null) {
+            throw new ObjectNotFoundException("Пользователь с id не найден");
+        }
         ItemRequestResponseDto result = ItemRequestMapper.INSTANCE.toItemRequestResponseDto(itemRequest);
-        result.setItems(new ArrayList<>());
-        for (Item item : itemList) {
-            result.getItems().add(ItemMapper.INSTANCE.toItemRequestResponseDtoItem(item));
+        attachItems(List.of(result));
+        if (itemRequest.getRequester().getId() == userId) {
+            attachSuggestions(List.of(result));
+        }
+        return result;
+    }
+
+    private CursorPage<ItemRequestResponseDto> toRequestPage(List<ItemRequest> itemRequests, int size) {
+        List<ItemRequestResponseDto> result = toResponses(itemRequests);
+        String nextCursor = null;
+        if (itemRequests.size() == size) {
+            ItemRequest last = itemRequests.get(itemRequests.size() - 1);
+            nextCursor = Cursor.encode(last.getCreated(), last.getId());
         }
+        return new CursorPage<>(result, nextCursor);
+    }
+
+    private List<ItemRequestResponseDto> toResponses(List<ItemRequest> itemRequests) {
+        List<ItemRequestResponseDto> result = itemRequests.stream()
+                .map(ItemRequestMapper.INSTANCE::toItemRequestResponseDto)
+                .collect(Collectors.toList());
+        attachItems(result);
         return result;
     }
-}
\ No newline at end of file
+
+    private void attachItems(List<ItemRequestResponseDto> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        List<Long> requestIds = requests.stream()
+                .map(ItemRequestResponseDto::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<ItemRequestResponseDtoItem>> items = itemDao.findRequestItemsByRequestIdIn(requestIds)
+                .stream()
+                .collect(Collectors.groupingBy(ItemRequestResponseDtoItem::getRequestId));
+        for (ItemRequestResponseDto request : requests) {
+            request.setItems(items.getOrDefault(request.getId(), new ArrayList<>()));
+        }
+    }
+
+    private void attachSuggestions(List<ItemRequestResponseDto> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        List<Long> requestIds = requests.stream()
+                .map(ItemRequestResponseDto::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<ItemRequestResponseDtoItem>> suggestions = requestSuggestionDao
+                .findSuggestedItemsByRequestIdIn(requestIds)
+                .stream()
+                .collect(Collectors.groupingBy(ItemRequestResponseDtoItem::getRequestId));
+        for (ItemRequestResponseDto request : requests) {
+            request.setSuggestions(suggestions.getOrDefault(request.getId(), new ArrayList<>()));
+        }
+    }
+}
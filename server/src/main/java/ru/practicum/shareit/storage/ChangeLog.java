@@ -0,0 +1,280 @@
+package ru.practicum.shareit.storage;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+@Slf4j
+public class ChangeLog<T> implements AutoCloseable {
+    private static final String PUT = "PUT";
+    private static final String DELETE = "DELETE";
+    private static final String CLEAR = "CLEAR";
+
+    private final Path snapshotFile;
+    private final Path logFile;
+    private final Path compactingFile;
+    private final ObjectMapper mapper;
+    private final JavaType entryType;
+    private final ToLongFunction<T> idOf;
+    private final int compactAfter;
+    private final boolean syncWrites;
+    private final Object compaction = new Object();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicInteger appended = new AtomicInteger();
+    private Supplier<Collection<T>> state;
+    private FileChannel channel;
+
+    private ChangeLog(Path dir, String name, Class<T> type, ToLongFunction<T> idOf, ObjectMapper mapper,
+                      int compactAfter, boolean syncWrites) {
+        this.snapshotFile = dir == null ? null : dir.resolve(name + ".snapshot");
+        this.logFile = dir == null ? null : dir.resolve(name + ".log");
+        this.compactingFile = dir == null ? null : dir.resolve(name + ".log.compacting");
+        this.mapper = mapper;
+        this.entryType = mapper.getTypeFactory().constructParametricType(Entry.class, type);
+        this.idOf = idOf;
+        this.compactAfter = compactAfter;
+        this.syncWrites = syncWrites;
+    }
+
+    public static <T> ChangeLog<T> open(String dataDir, String name, Class<T> type, ToLongFunction<T> idOf,
+                                        ObjectMapper mapper, int compactAfter, boolean syncWrites) {
+        Path dir = dataDir == null || dataDir.isBlank() ? null : Path.of(dataDir);
+        return new ChangeLog<>(dir, name, type, idOf, mapper, compactAfter, syncWrites);
+    }
+
+    public Map<Long, T> load(Supplier<Collection<T>> state) {
+        this.state = state;
+        Map<Long, T> records = new LinkedHashMap<>();
+        if (logFile == null) {
+            return records;
+        }
+        try {
+            Files.createDirectories(logFile.getParent());
+            replay(snapshotFile, records, false);
+            boolean compacting = Files.exists(compactingFile);
+            replay(compactingFile, records, false);
+            boolean complete = replay(logFile, records, true);
+            channel = openLog();
+            if (!complete) {
+                log.warn("Журнал {} оборван, будет записан новый снимок", logFile);
+            }
+            if (!complete || compacting) {
+                writeSnapshot(records.values());
+                channel.truncate(0);
+                channel.force(true);
+                Files.deleteIfExists(compactingFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Из {} загружено записей: {}", logFile, records.size());
+        return records;
+    }
+
+    public void write(Runnable mutation) {
+        lock.readLock().lock();
+        try {
+            mutation.run();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(T record) {
+        append(new Entry<>(PUT, idOf.applyAsLong(record), record));
+    }
+
+    public void delete(long id) {
+        append(new Entry<>(DELETE, id, null));
+    }
+
+    public void clear(Runnable mutation) {
+        lock.writeLock().lock();
+        try {
+            mutation.run();
+            append(new Entry<>(CLEAR, 0, null));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void compact() {
+        synchronized (compaction) {
+            Collection<T> records;
+            lock.writeLock().lock();
+            try {
+                if (channel == null || appended.get() < compactAfter) {
+                    return;
+                }
+                records = state.get();
+                channel.force(true);
+                channel.close();
+                Files.move(logFile, compactingFile, StandardCopyOption.ATOMIC_MOVE);
+                channel = openLog();
+                appended.set(0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            try {
+                writeSnapshot(records);
+                Files.delete(compactingFile);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            log.info("Журнал {} сжат, в снимке записей: {}", logFile, records.size());
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (channel != null) {
+                channel.force(true);
+                channel.close();
+                channel = null;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void append(Entry<T> entry) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(line(entry));
+            synchronized (this) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                if (syncWrites) {
+                    channel.force(false);
+                }
+            }
+            appended.incrementAndGet();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeSnapshot(Collection<T> records) throws IOException {
+        Path tmp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (T record : records) {
+                out.write(ByteBuffer.wrap(line(new Entry<>(PUT, idOf.applyAsLong(record), record))));
+            }
+            out.force(true);
+        }
+        Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private FileChannel openLog() throws IOException {
+        return FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private boolean replay(Path file, Map<Long, T> records, boolean tornTailAllowed) throws IOException {
+        if (!Files.exists(file)) {
+            return true;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                Entry<T> entry = parse(line);
+                if (entry == null) {
+                    if (tornTailAllowed && reader.readLine() == null && !endsWithNewLine(file)) {
+                        return false;
+                    }
+                    throw new IllegalStateException(String.format("Файл %s повреждён в строке %d", file, number));
+                }
+                switch (entry.getOp()) {
+                    case PUT:
+                        records.put(entry.getId(), entry.getRecord());
+                        break;
+                    case DELETE:
+                        records.remove(entry.getId());
+                        break;
+                    case CLEAR:
+                        records.clear();
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        return true;
+    }
+
+    private Entry<T> parse(String line) {
+        Entry<T> entry;
+        try {
+            entry = mapper.readValue(line, entryType);
+        } catch (IOException e) {
+            return null;
+        }
+        if (entry == null || !PUT.equals(entry.getOp()) && !DELETE.equals(entry.getOp())
+                && !CLEAR.equals(entry.getOp())) {
+            return null;
+        }
+        return entry;
+    }
+
+    private static boolean endsWithNewLine(Path file) throws IOException {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (in.size() == 0) {
+                return false;
+            }
+            ByteBuffer last = ByteBuffer.allocate(1);
+            in.read(last, in.size() - 1);
+            return last.get(0) == '\n';
+        }
+    }
+
+    private byte[] line(Entry<T> entry) throws IOException {
+        byte[] json = mapper.writeValueAsBytes(entry);
+        byte[] line = new byte[json.length + 1];
+        System.arraycopy(json, 0, line, 0, json.length);
+        line[json.length] = '\n';
+        return line;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Entry<T> {
+        private String op;
+        private long id;
+        private T record;
+    }
+}
@@ -0,0 +1,52 @@
+package ru.practicum.shareit.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToLongFunction;
+
+@Component
+@Profile("memory")
+@EnableScheduling
+@Slf4j
+public class ChangeLogFactory {
+    private final String dataDir;
+    private final int compactAfter;
+    private final boolean syncWrites;
+    private final ObjectMapper mapper;
+    private final List<ChangeLog<?>> changeLogs = new CopyOnWriteArrayList<>();
+
+    public ChangeLogFactory(@Value("${shareit.memory.data-dir:}") String dataDir,
+                            @Value("${shareit.memory.compact-after:100000}") int compactAfter,
+                            @Value("${shareit.memory.sync-writes:false}") boolean syncWrites,
+                            ObjectMapper mapper) {
+        this.dataDir = dataDir;
+        this.compactAfter = compactAfter;
+        this.syncWrites = syncWrites;
+        this.mapper = mapper;
+    }
+
+    public <T> ChangeLog<T> open(String name, Class<T> type, ToLongFunction<T> idOf) {
+        ChangeLog<T> changeLog = ChangeLog.open(dataDir, name, type, idOf, mapper, compactAfter, syncWrites);
+        changeLogs.add(changeLog);
+        return changeLog;
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.memory.compact-interval:60000}")
+    public void compact() {
+        for (ChangeLog<?> changeLog : changeLogs) {
+            try {
+                changeLog.compact();
+            } catch (RuntimeException e) {
+                log.error("Не удалось сжать журнал", e);
+            }
+        }
+    }
+}
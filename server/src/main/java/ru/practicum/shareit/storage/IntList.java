@@ -0,0 +1,48 @@
+package ru.practicum.shareit.storage;
+
+import java.util.Arrays;
+
+public class IntList {
+    private int[] elements;
+    private int size;
+
+    public IntList() {
+        elements = new int[4];
+    }
+
+    public void add(int value) {
+        int index = size == 0 || elements[size - 1] < value ? size : Arrays.binarySearch(elements, 0, size, value);
+        if (index >= 0 && index < size) {
+            return;
+        }
+        index = index < 0 ? -index - 1 : index;
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    public boolean removeValue(int value) {
+        int index = Arrays.binarySearch(elements, 0, size, value);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    public int get(int index) {
+        return elements[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -1,26 +1,58 @@
 package ru.practicum.shareit.user;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
+import java.util.Objects;
 
 @RestController
+@Validated
 @RequestMapping(path = "/users")
 @Slf4j
 @RequiredArgsConstructor
 public class UserController {
+    private static final int DEFAULT_PAGE_SIZE = 20;
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<List<UserDto>> getAllUsers() {
-        return ResponseEntity.ok().body(userService.getAllUsers());
+    public ResponseEntity<List<UserDto>> getAllUsers(@RequestParam(required = false) @Min(0) Integer from,
+                                                     @RequestParam(required = false) @Min(1) @Max(100) Integer size,
+                                                     @RequestParam(required = false) String cursor) {
+        if (from == null && size == null && cursor == null) {
+            return ResponseEntity.ok().body(userService.getAllUsers());
+        }
+        var page = userService.getAllUsers(Objects.requireNonNullElse(from, 0),
+                Objects.requireNonNullElse(size, DEFAULT_PAGE_SIZE), cursor);
+        return ResponseEntity.ok().headers(page.headers()).body(page.getContent());
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        StreamingResponseBody body = out -> userService.streamAllUsers(user -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(user));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @PostMapping
@@ -1,9 +1,33 @@
 package ru.practicum.shareit.user;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.user.dto.UserSnapshot;
 import ru.practicum.shareit.user.model.User;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    String CACHE = "users";
+
+    @Cacheable(cacheNames = CACHE, unless = "#result == null")
+    @Query("select new ru.practicum.shareit.user.dto.UserSnapshot(u.id, u.name, u.email) from User u where u.id = ?1")
+    Optional<UserSnapshot> findSnapshotById(long id);
+
+    List<User> findByIdGreaterThanOrderById(long id, Pageable pageable);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select u from User u order by u.id")
+    Stream<User> streamAll();
 }
@@ -1,58 +1,257 @@
 package ru.practicum.shareit.user.dao;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.storage.ChangeLog;
+import ru.practicum.shareit.storage.ChangeLogFactory;
+import ru.practicum.shareit.storage.LongIntHashMap;
+import ru.practicum.shareit.user.dto.UserSnapshot;
 import ru.practicum.shareit.user.model.User;
 
+import javax.annotation.PreDestroy;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Repository
+@Profile("memory")
 @Slf4j
 public class InMemoryUserDao implements UserDao {
-    private final Map<Long, User> users = new HashMap<>();
-    private Long userId = 1L;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap rows = new LongIntHashMap(INITIAL_CAPACITY);
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] emails = new String[INITIAL_CAPACITY];
+    private final BitSet deleted = new BitSet(INITIAL_CAPACITY);
+    private final Map<String, Long> idsByEmail = new HashMap<>();
+    private int size;
+    private int deletedCount;
+    private long userId;
+    private final ChangeLog<User> changeLog;
+    private final ObjectProvider<UserReferences> references;
+
+    public InMemoryUserDao(ChangeLogFactory changeLogs, ObjectProvider<UserReferences> references) {
+        this.references = references;
+        changeLog = changeLogs.open("users", User.class, User::getId);
+        List<User> users = new ArrayList<>(changeLog.load(this::users).values());
+        users.sort(Comparator.comparingLong(User::getId));
+        for (User user : users) {
+            put(user);
+            userId = Math.max(userId, user.getId());
+        }
+    }
 
     @Override
     public User addUser(User user) {
-        user.setId(nextId());
-        users.put(user.getId(), user);
+        store(user);
         log.info("Добавлен новый пользователь: {}", user);
         return user;
     }
 
     @Override
     public User updateUser(User user) {
-        users.put(user.getId(), user);
+        store(user);
         log.info("Данные пользователя обновлены: {}", user);
         return user;
     }
 
     @Override
     public List<User> getAllUsers() {
-        return new ArrayList<>(users.values());
+        return findByIdGreaterThanOrderById(0, Pageable.unpaged());
+    }
+
+    @Override
+    public List<User> findByIdGreaterThanOrderById(long id, Pageable pageable) {
+        long skip = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        List<User> users = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int row = firstRowAfter(id); row < size && users.size() < limit; row++) {
+                if (deleted.get(row)) {
+                    continue;
+                }
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    users.add(userAt(row));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return users;
+    }
+
+    @Override
+    public void forEachUser(Consumer<User> action) {
+        getAllUsers().forEach(action);
     }
 
     @Override
     public void deleteAllUsers() {
+        changeLog.clear(() -> {
+            lock.writeLock().lock();
+            try {
+                rows.clear();
+                idsByEmail.clear();
+                Arrays.fill(names, 0, size, null);
+                Arrays.fill(emails, 0, size, null);
+                deleted.clear();
+                size = 0;
+                deletedCount = 0;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
         log.info("Список пользователей очищен.");
-        users.clear();
     }
 
     @Override
     public void deleteUser(long id) {
+        List<UserReferences> dependents = references.orderedStream().collect(Collectors.toList());
+        dependents.forEach(dependent -> dependent.checkRestricted(id));
+        AtomicBoolean removed = new AtomicBoolean();
+        changeLog.write(() -> {
+            lock.writeLock().lock();
+            try {
+                int row = rows.remove(id);
+                if (row < 0) {
+                    return;
+                }
+                removed.set(true);
+                idsByEmail.remove(emails[row]);
+                names[row] = null;
+                emails[row] = null;
+                deleted.set(row);
+                if (++deletedCount * 2 > size) {
+                    compactRows();
+                }
+                changeLog.delete(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+        if (removed.get()) {
+            dependents.forEach(dependent -> dependent.deleteByUserId(id));
+        }
         log.info("Пользователь удален.");
-        users.remove(id);
     }
 
     @Override
     public User getUserById(long id) {
-        return users.get(id);
+        lock.readLock().lock();
+        try {
+            int row = rows.get(id);
+            return row < 0 ? null : userAt(row);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<UserSnapshot> findSnapshotById(long id) {
+        lock.readLock().lock();
+        try {
+            int row = rows.get(id);
+            return row < 0 ? Optional.empty() : Optional.of(new UserSnapshot(ids[row], names[row], emails[row]));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        changeLog.close();
+    }
+
+    private void store(User user) {
+        changeLog.write(() -> {
+            lock.writeLock().lock();
+            try {
+                boolean created = rows.get(user.getId()) < 0;
+                Long owner = idsByEmail.get(user.getEmail());
+                if (owner != null && (created || owner != user.getId())) {
+                    throw new DataIntegrityViolationException("Пользователь с такой почтой уже существует!");
+                }
+                if (created) {
+                    user.setId(++userId);
+                }
+                changeLog.put(userAt(put(user)));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private int put(User user) {
+        int row = rows.get(user.getId());
+        if (row < 0) {
+            row = size++;
+            if (size > ids.length) {
+                int grown = ids.length * 2;
+                ids = Arrays.copyOf(ids, grown);
+                names = Arrays.copyOf(names, grown);
+                emails = Arrays.copyOf(emails, grown);
+            }
+            rows.put(user.getId(), row);
+            ids[row] = user.getId();
+        } else {
+            idsByEmail.remove(emails[row]);
+        }
+        idsByEmail.put(user.getEmail(), user.getId());
+        names[row] = user.getName();
+        emails[row] = user.getEmail();
+        return row;
+    }
+
+    private void compactRows() {
+        int live = 0;
+        for (int row = 0; row < size; row++) {
+            if (deleted.get(row)) {
+                continue;
+            }
+            if (row != live) {
+                ids[live] = ids[row];
+                names[live] = names[row];
+                emails[live] = emails[row];
+                rows.put(ids[live], live);
+            }
+            live++;
+        }
+        Arrays.fill(names, live, size, null);
+        Arrays.fill(emails, live, size, null);
+        deleted.clear();
+        size = live;
+        deletedCount = 0;
+    }
+
+    private int firstRowAfter(long id) {
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        return row < 0 ? -row - 1 : row + 1;
+    }
+
+    private List<User> users() {
+        return findByIdGreaterThanOrderById(Long.MIN_VALUE, Pageable.unpaged());
     }
 
-    private Long nextId() {
-        return userId++;
+    private User userAt(int row) {
+        return new User(ids[row], names[row], emails[row]);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.user.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.dto.UserSnapshot;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Repository
+@Profile("!memory")
+@RequiredArgsConstructor
+public class JpaUserDao implements UserDao {
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public User addUser(User user) {
+        return userRepository.save(user);
+    }
+
+    @Override
+    public User updateUser(User user) {
+        return userRepository.save(user);
+    }
+
+    @Override
+    public List<User> getAllUsers() {
+        return userRepository.findByIdGreaterThanOrderById(0, Pageable.unpaged());
+    }
+
+    @Override
+    public List<User> findByIdGreaterThanOrderById(long id, Pageable pageable) {
+        return userRepository.findByIdGreaterThanOrderById(id, pageable);
+    }
+
+    @Override
+    public void forEachUser(Consumer<User> action) {
+        try (Stream<User> users = userRepository.streamAll()) {
+            users.forEach(user -> {
+                action.accept(user);
+                entityManager.detach(user);
+            });
+        }
+    }
+
+    @Override
+    public void deleteAllUsers() {
+        userRepository.deleteAll();
+    }
+
+    @Override
+    public void deleteUser(long id) {
+        userRepository.deleteById(id);
+    }
+
+    @Override
+    public User getUserById(long id) {
+        return userRepository.findById(id).orElse(null);
+    }
+
+    @Override
+    public Optional<UserSnapshot> findSnapshotById(long id) {
+        return userRepository.findSnapshotById(id);
+    }
+}
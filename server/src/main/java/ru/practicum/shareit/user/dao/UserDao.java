@@ -1,8 +1,12 @@
 package ru.practicum.shareit.user.dao;
 
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.user.dto.UserSnapshot;
 import ru.practicum.shareit.user.model.User;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface UserDao {
 
@@ -12,10 +16,16 @@ public interface UserDao {
 
     List<User> getAllUsers();
 
+    List<User> findByIdGreaterThanOrderById(long id, Pageable pageable);
+
+    void forEachUser(Consumer<User> action);
+
     void deleteAllUsers();
 
     void deleteUser(long id);
 
     User getUserById(long id);
 
+    Optional<UserSnapshot> findSnapshotById(long id);
+
 }
\ No newline at end of file
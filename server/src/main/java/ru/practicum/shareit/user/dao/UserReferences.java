@@ -0,0 +1,10 @@
+package ru.practicum.shareit.user.dao;
+
+public interface UserReferences {
+
+    default void checkRestricted(long userId) {
+    }
+
+    default void deleteByUserId(long userId) {
+    }
+}
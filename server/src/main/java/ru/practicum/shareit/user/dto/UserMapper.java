@@ -13,4 +13,6 @@ public interface UserMapper {
 
     @InheritInverseConfiguration
     User toUser(UserDto userDto);
+
+    User toUser(UserSnapshot userSnapshot);
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.user.UserRepository;
+
+@Component
+@RequiredArgsConstructor
+public class UserCacheListener {
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(UserChangedEvent event) {
+        Cache cache = cacheManager.getCache(UserRepository.CACHE);
+        if (cache != null) {
+            cache.evict(event.getUserId());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package ru.practicum.shareit.user.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+    private final long userId;
+}
@@ -1,8 +1,10 @@
 package ru.practicum.shareit.user.service;
 
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserService {
 
@@ -12,6 +14,10 @@ public interface UserService {
 
     List<UserDto> getAllUsers();
 
+    CursorPage<UserDto> getAllUsers(int from, int size, String cursor);
+
+    void streamAllUsers(Consumer<UserDto> action);
+
     void deleteUser(long id);
 
     UserDto getUserById(long id);
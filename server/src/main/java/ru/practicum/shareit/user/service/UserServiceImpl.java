@@ -2,9 +2,12 @@ package ru.practicum.shareit.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import ru.practicum.shareit.exception.ObjectNotFoundException;
-import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.user.dao.UserDao;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserMapper;
 import ru.practicum.shareit.user.model.User;
@@ -12,25 +15,31 @@ import ru.practicum.shareit.user.model.User;
 import javax.transaction.Transactional;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
-    private final UserRepository userRepository;
+    private final UserDao userDao;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserDto addUser(UserDto userDto) {
         User user = UserMapper.INSTANCE.toUser(userDto);
         log.info("Добавлен новый пользователь; {}", user.getName());
-        return UserMapper.INSTANCE.toUserDto(userRepository.save(user));
+        return UserMapper.INSTANCE.toUserDto(userDao.addUser(user));
     }
 
+    @Transactional
     @Override
     public UserDto updateUser(UserDto userDto) {
         User newUser = UserMapper.INSTANCE.toUser(userDto);
-        var user = userRepository.findById(newUser.getId()).get();
+        var user = userDao.getUserById(newUser.getId());
+        if (user == null) {
+            throw new ObjectNotFoundException("Пользователя не существует!");
+        }
         if (newUser.getEmail() != null) {
             user.setEmail(newUser.getEmail());
         }
@@ -38,41 +47,57 @@ public class UserServiceImpl implements UserService {
             user.setName(newUser.getName());
         }
         log.info("Данные пользователя обновлены: {}", user.getName());
-        return UserMapper.INSTANCE.toUserDto(userRepository.save(user));
+        user = userDao.updateUser(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+        return UserMapper.INSTANCE.toUserDto(user);
     }
 
-    @Transactional
     @Override
     public List<UserDto> getAllUsers() {
-        return userRepository.findAll().stream()
+        return userDao.getAllUsers().stream()
                 .map(UserMapper.INSTANCE::toUserDto)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public void deleteUser(long id) {
-        if (!userExists(id)) {
-            throw new ObjectNotFoundException("Пользователя не существует!");
+    public CursorPage<UserDto> getAllUsers(int from, int size, String cursor) {
+        Cursor position = Cursor.page(cursor, from, size, 0L);
+        List<User> users = userDao.findByIdGreaterThanOrderById(position.getLong(0), position.getPageable());
+        String nextCursor = null;
+        if (users.size() == size) {
+            nextCursor = Cursor.encode(users.get(users.size() - 1).getId());
         }
-        userRepository.deleteById(id);
+        return new CursorPage<>(users.stream()
+                .map(UserMapper.INSTANCE::toUserDto)
+                .collect(Collectors.toList()), nextCursor);
     }
 
+    @Transactional
     @Override
-    public UserDto getUserById(long id) {
-        if (!userExists(id)) {
+    public void streamAllUsers(Consumer<UserDto> action) {
+        userDao.forEachUser(user -> action.accept(UserMapper.INSTANCE.toUserDto(user)));
+    }
+
+    @Transactional
+    @Override
+    public void deleteUser(long id) {
+        if (userDao.findSnapshotById(id).isEmpty()) {
             throw new ObjectNotFoundException("Пользователя не существует!");
         }
-        User user = userRepository.findById(id).get();
-        return UserMapper.INSTANCE.toUserDto(user);
+        userDao.deleteUser(id);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
     }
 
-    private boolean userExists(long userId) {
-        var userOptional = userRepository.findById(userId);
-        return !userOptional.isEmpty();
+    @Override
+    public UserDto getUserById(long id) {
+        User user = userDao.findSnapshotById(id)
+                .map(UserMapper.INSTANCE::toUser)
+                .orElseThrow(() -> new ObjectNotFoundException("Пользователя не существует!"));
+        return UserMapper.INSTANCE.toUserDto(user);
     }
 
     private boolean emailExists(User user) {
-        for (User user1 : userRepository.findAll()) {
+        for (User user1 : userDao.getAllUsers()) {
             if (user1.getEmail().contains(user.getEmail())) {
                 if (!Objects.equals(user1.getId(), user.getId())) {
                     log.info("Пользователь с такой почтой уже существует!");
@@ -1,4 +1,4 @@
-DROP TABLE IF EXISTS bookings, items, users, requests, comments CASCADE;
+DROP TABLE IF EXISTS bookings, items, users, requests, comments, request_suggestions CASCADE;
 
 CREATE TABLE IF NOT EXISTS users
 (
@@ -19,17 +19,23 @@ CREATE TABLE IF NOT EXISTS requests
     FOREIGN KEY (requester_id) REFERENCES users (id) ON DELETE CASCADE
 );
 
+CREATE INDEX IF NOT EXISTS idx_requests_created ON requests (created DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_requests_requester_created ON requests (requester_id, created DESC, id DESC);
+
 CREATE TABLE IF NOT EXISTS items
 (
     id          BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
     name        VARCHAR(255)                                        NOT NULL,
     description VARCHAR(512)                                        NOT NULL,
     available   BOOLEAN                                             NOT NULL,
+    comment_count INTEGER DEFAULT 0                                 NOT NULL,
     CONSTRAINT pk_item PRIMARY KEY (id),
     owner_id    BIGINT REFERENCES users (id),
     request_id  BIGINT REFERENCES requests (id)
 );
 
+CREATE INDEX IF NOT EXISTS idx_items_owner_id ON items (owner_id, id);
+
 CREATE TABLE IF NOT EXISTS bookings
 (
     id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY NOT NULL,
@@ -37,11 +43,20 @@ CREATE TABLE IF NOT EXISTS bookings
     ends   TIMESTAMP WITHOUT TIME ZONE,
     item_id       BIGINT                                              NOT NULL,
     booker_id     BIGINT                                              NOT NULL,
+    owner_id      BIGINT                                              NOT NULL,
     status        VARCHAR,
     FOREIGN KEY (item_id) REFERENCES items (id) ON DELETE CASCADE,
-    FOREIGN KEY (booker_id) REFERENCES users (id) ON DELETE CASCADE
+    FOREIGN KEY (booker_id) REFERENCES users (id) ON DELETE CASCADE,
+    FOREIGN KEY (owner_id) REFERENCES users (id) ON DELETE CASCADE
 
 );
+
+CREATE INDEX IF NOT EXISTS idx_bookings_item_status_starts ON bookings (item_id, status, starts);
+CREATE INDEX IF NOT EXISTS idx_bookings_item_booker_status_starts ON bookings (item_id, booker_id, status, starts);
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_starts ON bookings (booker_id, starts DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_status_starts ON bookings (booker_id, status, starts DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_bookings_owner_starts ON bookings (owner_id, starts DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_bookings_owner_status_starts ON bookings (owner_id, status, starts DESC, id DESC);
 CREATE TABLE IF NOT EXISTS comments
 (
     id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY NOT NULL,
@@ -51,4 +66,18 @@ CREATE TABLE IF NOT EXISTS comments
     created   TIMESTAMP WITHOUT TIME ZONE,
     FOREIGN KEY (item_id) REFERENCES items (id) ON DELETE CASCADE,
     FOREIGN KEY (author_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_comments_item_created ON comments (item_id, created DESC, id DESC);
+
+CREATE TABLE IF NOT EXISTS request_suggestions
+(
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY NOT NULL,
+    request_id BIGINT                                              NOT NULL,
+    item_id    BIGINT                                              NOT NULL,
+    score      DOUBLE PRECISION                                    NOT NULL,
+    created    TIMESTAMP WITHOUT TIME ZONE,
+    FOREIGN KEY (request_id) REFERENCES requests (id) ON DELETE CASCADE,
+    FOREIGN KEY (item_id) REFERENCES items (id) ON DELETE CASCADE,
+    CONSTRAINT uq_request_suggestion UNIQUE (request_id, item_id)
 );
\ No newline at end of file
@@ -0,0 +1,33 @@
+package ru.practicum.shareit;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresContainerTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = newContainer();
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        register(registry, POSTGRES);
+    }
+
+    public static PostgreSQLContainer<?> newContainer() {
+        return new PostgreSQLContainer<>("postgres:14-alpine");
+    }
+
+    public static void register(DynamicPropertyRegistry registry, PostgreSQLContainer<?> postgres) {
+        registry.add("spring.datasource.driverClassName", postgres::getDriverClassName);
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.sql.init.schema-locations", () -> "classpath:schema.sql,classpath:schema-postgresql.sql");
+        registry.add("shareit.item-search", () -> "full-text");
+        registry.add("shareit.sql.lateral-joins", () -> "true");
+    }
+}
@@ -0,0 +1,111 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import ru.practicum.shareit.PostgresContainerTest;
+import ru.practicum.shareit.booking.dao.BookingDao;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BookingRepositoryPostgresTest extends PostgresContainerTest {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    private User owner;
+    private User booker;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("owner").email("owner@email.com").build());
+        booker = userRepository.save(User.builder().name("booker").email("booker@email.com").build());
+        now = LocalDateTime.now().withNano(0);
+    }
+
+    @Test
+    void findLastAndNextApprovedBookings_whenItemsHaveHistory_thenReturnLatestPastAndEarliestFutureOfEachItem() {
+        Item drill = saveItem("drill");
+        Item hammer = saveItem("hammer");
+        Item saw = saveItem("saw");
+        save(drill, now.minusDays(5), Status.APPROVED);
+        Booking drillLast = save(drill, now.minusDays(2), Status.APPROVED);
+        save(drill, now.minusDays(1), Status.REJECTED);
+        Booking drillNext = save(drill, now.plusDays(2), Status.APPROVED);
+        save(drill, now.plusDays(4), Status.APPROVED);
+        Booking hammerNext = save(hammer, now.plusDays(1), Status.APPROVED);
+        save(hammer, now.plusDays(3), Status.APPROVED);
+        save(saw, now.minusDays(1), Status.WAITING);
+
+        List<Long> itemIds = List.of(drill.getId(), hammer.getId(), saw.getId());
+
+        List<Long> ids = bookingRepository.findLastAndNextApprovedBookings(itemIds, now).stream()
+                .map(Booking::getId)
+                .sorted()
+                .collect(Collectors.toList());
+
+        assertEquals(List.of(drillLast.getId(), drillNext.getId(), hammerNext.getId()), ids);
+    }
+
+    @Test
+    void saveAndFlush_whenActiveBookingsOverlap_thenNameNoOverlapConstraint() {
+        Item drill = saveItem("drill");
+        save(drill, now.plusDays(1), Status.APPROVED);
+        save(drill, now.plusDays(1).plusMinutes(30), Status.REJECTED);
+
+        DataIntegrityViolationException e = assertThrows(DataIntegrityViolationException.class,
+                () -> bookingRepository.saveAndFlush(Booking.builder()
+                        .starts(now.plusDays(1).plusMinutes(30))
+                        .ends(now.plusDays(2))
+                        .item(drill)
+                        .booker(booker)
+                        .ownerId(owner.getId())
+                        .status(Status.WAITING)
+                        .build()));
+
+        assertTrue(NestedExceptionUtils.getMostSpecificCause(e).getMessage()
+                .contains(BookingDao.NO_OVERLAP_CONSTRAINT));
+    }
+
+    private Item saveItem(String name) {
+        return itemRepository.save(Item.builder()
+                .name(name)
+                .description("description")
+                .available(true)
+                .owner(owner)
+                .build());
+    }
+
+    private Booking save(Item item, LocalDateTime starts, Status status) {
+        return bookingRepository.save(Booking.builder()
+                .starts(starts)
+                .ends(starts.plusHours(1))
+                .item(item)
+                .booker(booker)
+                .ownerId(owner.getId())
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,91 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+class BookingRepositoryTest {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    private User owner;
+    private User booker;
+    private Item item;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("owner").email("owner@email.com").build());
+        booker = userRepository.save(User.builder().name("booker").email("booker@email.com").build());
+        item = itemRepository.save(Item.builder()
+                .name("item")
+                .description("description")
+                .available(true)
+                .owner(owner)
+                .build());
+        now = LocalDateTime.now().withNano(0);
+    }
+
+    @Test
+    void findLastAndNextApprovedBookingsPortable_whenStartsAreEqual_thenReturnOneBookingPerSide() {
+        Booking lastLow = save(now.minusDays(2), Status.APPROVED);
+        Booking lastHigh = save(now.minusDays(2), Status.APPROVED);
+        save(now.minusDays(5), Status.APPROVED);
+        save(now.minusDays(1), Status.REJECTED);
+        Booking nextLow = save(now.plusDays(2), Status.APPROVED);
+        save(now.plusDays(2), Status.APPROVED);
+        save(now.plusDays(5), Status.APPROVED);
+
+        List<Long> ids = bookingRepository.findLastAndNextApprovedBookingsPortable(List.of(item.getId()), now).stream()
+                .map(Booking::getId)
+                .sorted()
+                .collect(Collectors.toList());
+
+        assertEquals(List.of(lastHigh.getId(), nextLow.getId()), ids);
+        assertEquals(lastLow.getId() + 1, lastHigh.getId());
+    }
+
+    @Test
+    void findLatestEndsByItemIdAndStatusInAndStartsBefore_whenHistoryIsLong_thenReturnOnlyLatestActiveBooking() {
+        save(now.minusDays(10), Status.APPROVED);
+        save(now.minusDays(5), Status.WAITING);
+        Booking latest = save(now.plusDays(1), Status.APPROVED);
+        save(now.plusDays(2), Status.REJECTED);
+        save(now.plusDays(5), Status.WAITING);
+
+        List<LocalDateTime> ends = bookingRepository.findLatestEndsByItemIdAndStatusInAndStartsBefore(item.getId(),
+                List.of(Status.WAITING, Status.APPROVED), now.plusDays(3), PageRequest.of(0, 1));
+
+        assertEquals(List.of(latest.getEnds()), ends);
+    }
+
+    private Booking save(LocalDateTime starts, Status status) {
+        return bookingRepository.save(Booking.builder()
+                .starts(starts)
+                .ends(starts.plusHours(1))
+                .item(item)
+                .booker(booker)
+                .ownerId(owner.getId())
+                .status(status)
+                .build());
+    }
+}
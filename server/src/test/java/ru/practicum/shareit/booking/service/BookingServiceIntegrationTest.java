@@ -0,0 +1,135 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.exception.ConflictException;
+import ru.practicum.shareit.item.dto.ItemItemRequestDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class BookingServiceIntegrationTest {
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private UserService userService;
+    private long ownerId;
+    private long bookerId;
+    private long itemId;
+    private LocalDateTime starts;
+    private final List<Long> newestFirst = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ownerId = addUser("owner");
+        bookerId = addUser("booker");
+        itemId = itemService.addItem(ownerId, ItemItemRequestDto.builder()
+                .name("Палатка")
+                .description("Двухместная")
+                .available(true)
+                .build()).getId();
+        starts = LocalDateTime.now().plusDays(1).withNano(0);
+        for (int i = 0; i < 5; i++) {
+            newestFirst.add(0, addBooking(starts.plusDays(i * 2L), starts.plusDays(i * 2L + 1)).getId());
+        }
+    }
+
+    @Test
+    void getItemsBookingsOfUser_whenPagedByCursor_thenReturnEveryBookingOnceNewestFirst() {
+        assertEquals(newestFirst, walk(cursor -> bookingService.getItemsBookingsOfUser(bookerId, "ALL", 0, 2, cursor)));
+    }
+
+    @Test
+    void getBookingByItemOwner_whenPagedByCursor_thenReturnEveryBookingOnceNewestFirst() {
+        assertEquals(newestFirst, walk(cursor -> bookingService.getBookingByItemOwner(ownerId, "FUTURE", 0, 2, cursor)));
+    }
+
+    @Test
+    void getItemsBookingsOfUser_whenOffsetGiven_thenSkipExactlyOffsetRows() {
+        List<Long> ids = new ArrayList<>();
+        bookingService.getItemsBookingsOfUser(bookerId, "WAITING", 1, 3, null).getContent()
+                .forEach(booking -> ids.add(booking.getId()));
+
+        assertEquals(newestFirst.subList(1, 4), ids);
+    }
+
+    @Test
+    void addBooking_whenPeriodOverlapsActiveBooking_thenThrowConflict() {
+        assertThrows(ConflictException.class, () -> addBooking(starts.plusHours(12), starts.plusDays(2).plusHours(12)));
+        assertThrows(ConflictException.class, () -> addBooking(starts.minusDays(1), starts.plusDays(10)));
+    }
+
+    @Test
+    void addBooking_whenPeriodOnlyTouchesActiveBooking_thenAccept() {
+        BookingDto booking = addBooking(starts.plusDays(1), starts.plusDays(2));
+
+        assertEquals(Status.WAITING, booking.getStatus());
+    }
+
+    @Test
+    void addBooking_whenOverlappingBookingRejected_thenAccept() {
+        bookingService.approved(ownerId, newestFirst.get(newestFirst.size() - 1), false);
+
+        BookingDto booking = addBooking(starts, starts.plusDays(1));
+
+        assertEquals(Status.WAITING, booking.getStatus());
+    }
+
+    @Test
+    void deleteUser_whenBookerDeleted_thenDropTheirBookings() {
+        userService.deleteUser(bookerId);
+
+        assertEquals(List.of(), walk(cursor -> bookingService.getBookingByItemOwner(ownerId, "ALL", 0, 2, cursor)));
+    }
+
+    @Test
+    void deleteUser_whenUserOwnsItems_thenRejectAndKeepBookings() {
+        assertThrows(DataIntegrityViolationException.class, () -> userService.deleteUser(ownerId));
+
+        assertEquals(newestFirst, walk(cursor -> bookingService.getBookingByItemOwner(ownerId, "ALL", 0, 2, cursor)));
+    }
+
+    private BookingDto addBooking(LocalDateTime start, LocalDateTime end) {
+        return bookingService.addBooking(bookerId, BookingDto.builder()
+                .itemId(itemId)
+                .start(start)
+                .end(end)
+                .build());
+    }
+
+    private List<Long> walk(Function<String, CursorPage<BookingDto>> pages) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<BookingDto> page = pages.apply(cursor);
+            page.getContent().forEach(booking -> ids.add(booking.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private long addUser(String name) {
+        return userService.addUser(UserDto.builder()
+                .name(name)
+                .email(name + System.nanoTime() + "@booking.ru")
+                .build()).getId();
+    }
+}
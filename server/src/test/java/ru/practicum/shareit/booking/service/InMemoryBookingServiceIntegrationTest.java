@@ -0,0 +1,7 @@
+package ru.practicum.shareit.booking.service;
+
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("memory")
+class InMemoryBookingServiceIntegrationTest extends BookingServiceIntegrationTest {
+}
@@ -0,0 +1,76 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.practicum.shareit.PostgresContainerTest;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CommentRepositoryPostgresTest extends PostgresContainerTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    private User user;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().name("user").email("user@email.com").build());
+        now = LocalDateTime.now().withNano(0);
+    }
+
+    @Test
+    void findRecentCommentsByItemIdIn_whenItemsHaveManyComments_thenReturnNewestOfEachItem() {
+        Item drill = saveItem("drill");
+        Item hammer = saveItem("hammer");
+        Item saw = saveItem("saw");
+        save(drill, now.minusDays(3));
+        Comment drillLow = save(drill, now.minusDays(1));
+        Comment drillHigh = save(drill, now.minusDays(1));
+        save(drill, now.minusDays(2));
+        Comment hammerOnly = save(hammer, now.minusDays(5));
+
+        List<Long> itemIds = List.of(drill.getId(), hammer.getId(), saw.getId());
+
+        List<Long> ids = commentRepository.findRecentCommentsByItemIdIn(itemIds, 2).stream()
+                .map(Comment::getId)
+                .collect(Collectors.toList());
+
+        assertEquals(List.of(drillHigh.getId(), drillLow.getId(), hammerOnly.getId()), ids);
+    }
+
+    private Item saveItem(String name) {
+        return itemRepository.save(Item.builder()
+                .name(name)
+                .description("description")
+                .available(true)
+                .owner(user)
+                .build());
+    }
+
+    private Comment save(Item item, LocalDateTime created) {
+        return commentRepository.save(Comment.builder()
+                .text("text")
+                .item(item)
+                .author(user)
+                .created(created)
+                .build());
+    }
+}
@@ -0,0 +1,82 @@
+package ru.practicum.shareit.item;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.CursorPage;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ItemController.class)
+class ItemControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private ItemService itemService;
+
+    @SneakyThrows
+    @Test
+    void textSearch_whenCursorReturned_thenSetNextCursorHeader() {
+        ItemDto itemDto = ItemDto.builder()
+                .id(1L)
+                .name("Дрель")
+                .description("Ударная")
+                .available(true)
+                .build();
+        when(itemService.textSearch("дрель", 0, 1, null))
+                .thenReturn(new CursorPage<>(List.of(itemDto), "next"));
+
+        mockMvc.perform(get("/items/search")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("text", "дрель")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, "next"))
+                .andExpect(jsonPath("$[0].id").value(1));
+    }
+
+    @SneakyThrows
+    @Test
+    void textSearch_whenSizeIsZero_thenReturnBadRequest() {
+        mockMvc.perform(get("/items/search")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("text", "дрель")
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(itemService, never()).textSearch(anyString(), anyInt(), anyInt(), any());
+    }
+
+    @SneakyThrows
+    @Test
+    void textSearch_whenSizeAboveLimit_thenReturnBadRequest() {
+        mockMvc.perform(get("/items/search")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("text", "дрель")
+                        .param("size", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @SneakyThrows
+    @Test
+    void textSearch_whenFromIsNegative_thenReturnBadRequest() {
+        mockMvc.perform(get("/items/search")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("text", "дрель")
+                        .param("from", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,90 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.PostgresContainerTest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSearchHit;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ItemRepositoryPostgresTest extends PostgresContainerTest {
+
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder().name("owner").email("owner@email.com").build());
+    }
+
+    @Test
+    void search_whenWalkedByRankCursor_thenReturnEveryAvailableMatchOnceBestFirst() {
+        long inDescription = save("Батарейки", "Запасные на фонарь", true);
+        long inName = save("Фонарь", "Светодиодный", true);
+        long inNameToo = save("Фонарь", "Налобный", true);
+        long bySubstring = save("Суперфонарь", "Карманный", true);
+        save("Фонарь", "Разбит", false);
+
+        List<ItemSearchHit> hits = new ArrayList<>();
+        float rank = Float.MAX_VALUE;
+        long lastId = 0;
+        List<ItemSearchHit> page;
+        do {
+            page = itemRepository.search("ФОНАРЬ", rank, lastId, PageRequest.of(0, 1));
+            if (!page.isEmpty()) {
+                hits.addAll(page);
+                rank = page.get(0).getRank();
+                lastId = page.get(0).getId();
+            }
+        } while (!page.isEmpty());
+
+        assertEquals(List.of(inName, inNameToo, inDescription, bySubstring), ids(hits));
+        assertEquals(hits.get(0).getRank(), hits.get(1).getRank());
+        assertTrue(hits.get(1).getRank() > hits.get(2).getRank());
+        assertTrue(hits.get(2).getRank() > hits.get(3).getRank());
+    }
+
+    @Test
+    void search_whenCursorPointsAtTie_thenSkipTiedHitsUpToCursorId() {
+        save("Фонарь", "Светодиодный", true);
+        long second = save("Фонарь", "Налобный", true);
+        long third = save("Фонарь", "Карманный", true);
+        ItemSearchHit first = itemRepository.search("фонарь", Float.MAX_VALUE, 0, PageRequest.of(0, 1)).get(0);
+
+        List<ItemSearchHit> hits = itemRepository.search("фонарь", first.getRank(), first.getId(),
+                PageRequest.of(0, 10));
+
+        assertEquals(List.of(second, third), ids(hits));
+    }
+
+    private long save(String name, String description, boolean available) {
+        return itemRepository.save(Item.builder()
+                .name(name)
+                .description(description)
+                .available(available)
+                .owner(owner)
+                .build()).getId();
+    }
+
+    private static List<Long> ids(List<ItemSearchHit> hits) {
+        List<Long> ids = new ArrayList<>();
+        hits.forEach(hit -> ids.add(hit.getId()));
+        return ids;
+    }
+}
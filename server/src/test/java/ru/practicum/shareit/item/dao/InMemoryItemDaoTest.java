@@ -0,0 +1,117 @@
+package ru.practicum.shareit.item.dao;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSearchHit;
+import ru.practicum.shareit.storage.ChangeLogFactory;
+import ru.practicum.shareit.user.dao.UserDao;
+import ru.practicum.shareit.user.model.User;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryItemDaoTest {
+
+    @Mock
+    private UserDao userDao;
+    private InMemoryItemDao itemDao;
+
+    @BeforeEach
+    void setUp() {
+        itemDao = new InMemoryItemDao(userDao, changeLogs(null));
+        add("Аккумуляторная дрель", "Две батареи", true);
+        add("Отвёртка", "Подходит к дрели", true);
+        add("Дрель ударная", "Сломана", false);
+        add("Молоток", "Столярный", true);
+    }
+
+    @Test
+    void textSearch_whenQueryIsSubstring_thenRankNameMatchesFirst() {
+        assertEquals(List.of(1L, 2L), ids(itemDao.textSearch("ДРЕЛ", Float.MAX_VALUE, 0, PageRequest.of(0, 10))));
+    }
+
+    @Test
+    void textSearch_whenCursorGiven_thenContinueAfterIt() {
+        List<ItemSearchHit> first = itemDao.textSearch("дрел", Float.MAX_VALUE, 0, PageRequest.of(0, 1));
+        ItemSearchHit last = first.get(0);
+
+        assertEquals(List.of(2L), ids(itemDao.textSearch("дрел", last.getRank(), last.getId(), PageRequest.of(0, 1))));
+    }
+
+    @Test
+    void textSearch_whenQueryShorterThanGram_thenMatchBySubstring() {
+        assertEquals(List.of(4L), ids(itemDao.textSearch("мо", Float.MAX_VALUE, 0, PageRequest.of(0, 10))));
+    }
+
+    @Test
+    void textSearch_whenItemRenamed_thenForgetOldText() {
+        Item hammer = itemDao.getItemById(4);
+        hammer.setName("Киянка");
+        itemDao.updateItem(hammer);
+
+        assertEquals(List.of(), ids(itemDao.textSearch("молот", Float.MAX_VALUE, 0, PageRequest.of(0, 10))));
+        assertEquals(List.of(4L), ids(itemDao.textSearch("киян", Float.MAX_VALUE, 0, PageRequest.of(0, 10))));
+    }
+
+    @Test
+    void getAllItemsByUserId_whenPaged_thenReadOwnerItemsInIdOrder() {
+        assertEquals(List.of(3L, 4L), itemDao.getAllItemsByUserId(1L, PageRequest.of(1, 2)).stream()
+                .map(Item::getId)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void load_whenReopened_thenRestoreItemsIndexesAndCommentCounts(@TempDir Path dir) {
+        InMemoryItemDao stored = new InMemoryItemDao(userDao, changeLogs(dir));
+        stored.addItem(Item.builder()
+                .name("Дрель")
+                .description("Ударная")
+                .available(true)
+                .owner(User.builder().id(1L).build())
+                .build());
+        stored.incrementCommentCount(1);
+        stored.close();
+
+        InMemoryItemDao reopened = new InMemoryItemDao(userDao, changeLogs(dir));
+
+        assertEquals(1, reopened.getItemById(1).getCommentCount());
+        assertEquals(List.of(1L), ids(reopened.textSearch("дрел", Float.MAX_VALUE, 0, PageRequest.of(0, 10))));
+        assertEquals(2L, reopened.addItem(Item.builder()
+                .name("Молоток")
+                .description("Столярный")
+                .available(true)
+                .owner(User.builder().id(1L).build())
+                .build()).getId());
+        reopened.close();
+    }
+
+    private void add(String name, String description, boolean available) {
+        itemDao.addItem(Item.builder()
+                .name(name)
+                .description(description)
+                .available(available)
+                .owner(User.builder().id(1L).build())
+                .build());
+    }
+
+    private static ChangeLogFactory changeLogs(Path dir) {
+        return new ChangeLogFactory(dir == null ? "" : dir.toString(), 100, false, new ObjectMapper());
+    }
+
+    private static List<Long> ids(List<ItemSearchHit> hits) {
+        return hits.stream()
+                .map(ItemSearchHit::getId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,78 @@
+package ru.practicum.shareit.item.dao;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.item.model.ItemSearchHit;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ItemTrigramIndexTest {
+
+    private final ItemTrigramIndex index = new ItemTrigramIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.put(1, "Дрель", "Ударная", true);
+        index.put(2, "Шуруповёрт", "Почти дрель", true);
+        index.put(3, "Дрель", "Сломана", false);
+        index.put(4, "Молоток", "Столярный", true);
+    }
+
+    @Test
+    void search_whenUnavailableMatches_thenSkipThem() {
+        assertEquals(List.of(1L, 2L), search("дрель"));
+    }
+
+    @Test
+    void put_whenAvailabilityChanged_thenFollowIt() {
+        index.put(3, "Дрель", "Починена", true);
+        index.put(1, "Дрель", "Ударная", false);
+
+        assertEquals(List.of(3L, 2L), search("дрель"));
+    }
+
+    @Test
+    void remove_whenNotLast_thenMovedItemStaysSearchable() {
+        index.remove(1);
+
+        assertEquals(List.of(2L), search("дрель"));
+        assertEquals(List.of(4L), search("молот"));
+        assertEquals(List.of(4L), search("мо"));
+    }
+
+    @Test
+    void remove_whenMovedItemUpdatedLater_thenForgetOldText() {
+        index.remove(2);
+        index.put(4, "Киянка", "Резиновая", true);
+
+        assertEquals(List.of(), search("молот"));
+        assertEquals(List.of(4L), search("киян"));
+        assertEquals(List.of(1L), search("дрель"));
+    }
+
+    @Test
+    void remove_whenUnknownId_thenKeepIndex() {
+        index.remove(42);
+
+        assertEquals(List.of(1L, 2L), search("дрель"));
+    }
+
+    @Test
+    void clear_whenRefilled_thenSearchOnlyNewItems() {
+        index.clear();
+        index.put(5, "Дрель", "Аккумуляторная", true);
+
+        assertEquals(List.of(5L), search("дрель"));
+        assertEquals(List.of(), search("молот"));
+    }
+
+    private List<Long> search(String text) {
+        return index.search(text, Float.MAX_VALUE, 0, PageRequest.of(0, 10)).stream()
+                .map(ItemSearchHit::getId)
+                .collect(Collectors.toList());
+    }
+}
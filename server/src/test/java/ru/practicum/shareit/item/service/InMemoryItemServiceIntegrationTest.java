@@ -0,0 +1,7 @@
+package ru.practicum.shareit.item.service;
+
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("memory")
+class InMemoryItemServiceIntegrationTest extends ItemServiceIntegrationTest {
+}
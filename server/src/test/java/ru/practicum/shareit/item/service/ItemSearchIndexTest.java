@@ -0,0 +1,100 @@
+package ru.practicum.shareit.item.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.item.dao.ItemDao;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSearchHit;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSearchIndexTest {
+
+    @Mock
+    private ItemDao itemDao;
+    @InjectMocks
+    private ItemSearchIndex itemSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(itemDao.getAllItems()).thenReturn(List.of(
+                item(1L, "Дрель", "Ударная дрель", true),
+                item(2L, "Перфоратор", "Мощнее, чем дрель", true),
+                item(3L, "Дрель аккумуляторная", "Без провода", true),
+                item(4L, "Дрель", "Сломана", false)));
+        itemSearchIndex.rebuild();
+    }
+
+    @Test
+    void search_whenNameMatches_thenRankAboveDescriptionMatch() {
+        List<ItemSearchHit> hits = itemSearchIndex.search("ДРЕЛЬ", Float.MAX_VALUE, 0, PageRequest.of(0, 10));
+
+        assertEquals(List.of(1L, 3L, 2L), ids(hits));
+        assertEquals(1.0f, hits.get(0).getRank());
+        assertEquals(0.4f, hits.get(2).getRank());
+    }
+
+    @Test
+    void search_whenCursorGiven_thenContinueAfterIt() {
+        List<ItemSearchHit> hits = itemSearchIndex.search("дрель", 1.0f, 1L, PageRequest.of(0, 10));
+
+        assertEquals(List.of(3L, 2L), ids(hits));
+    }
+
+    @Test
+    void search_whenOffsetGiven_thenSkipRows() {
+        List<ItemSearchHit> hits = itemSearchIndex.search("дрель", Float.MAX_VALUE, 0, PageRequest.of(1, 2));
+
+        assertEquals(List.of(2L), ids(hits));
+    }
+
+    @Test
+    void search_whenQueryShorterThanGram_thenScanAllItems() {
+        assertEquals(List.of(1L, 3L, 2L), ids(itemSearchIndex.search("ре", Float.MAX_VALUE, 0,
+                PageRequest.of(0, 10))));
+    }
+
+    @Test
+    void onSaved_whenItemRenamed_thenOldTextNoLongerMatches() {
+        itemSearchIndex.onSaved(new ItemSavedEvent(1L, "Молоток", "Столярный", true, null));
+
+        assertEquals(List.of(3L, 2L), ids(itemSearchIndex.search("дрель", Float.MAX_VALUE, 0,
+                PageRequest.of(0, 10))));
+        assertEquals(List.of(1L), ids(itemSearchIndex.search("молот", Float.MAX_VALUE, 0,
+                PageRequest.of(0, 10))));
+    }
+
+    @Test
+    void onSaved_whenItemBecomesAvailable_thenItMatches() {
+        itemSearchIndex.onSaved(new ItemSavedEvent(4L, "Дрель", "Починена", true, null));
+
+        assertTrue(ids(itemSearchIndex.search("дрель", Float.MAX_VALUE, 0, PageRequest.of(0, 10)))
+                .contains(4L));
+    }
+
+    private static List<Long> ids(List<ItemSearchHit> hits) {
+        return hits.stream()
+                .map(ItemSearchHit::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static Item item(long id, String name, String description, boolean available) {
+        return Item.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .available(available)
+                .build();
+    }
+}
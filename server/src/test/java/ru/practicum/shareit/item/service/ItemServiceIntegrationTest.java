@@ -0,0 +1,141 @@
+package ru.practicum.shareit.item.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dao.BookingDao;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.item.dao.ItemDao;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemItemRequestDto;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.user.dao.UserDao;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class ItemServiceIntegrationTest {
+
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private BookingDao bookingDao;
+    @Autowired
+    private ItemDao itemDao;
+    @Autowired
+    private UserDao userDao;
+    private long ownerId;
+    private long lantern;
+    private long headlamp;
+    private long battery;
+    private String searchWord;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = addUser("owner");
+        searchWord = "кемпинг" + System.nanoTime();
+        battery = addItem(ownerId, "Батарейки", "Для фонаря " + searchWord, true);
+        lantern = addItem(ownerId, "Фонарь " + searchWord, "Светодиодный", true);
+        headlamp = addItem(ownerId, "Налобный фонарь " + searchWord, "Для бега", true);
+        addItem(ownerId, "Фонарь " + searchWord, "Разбит", false);
+    }
+
+    @Test
+    void textSearch_whenPagedByCursor_thenReturnEveryAvailableMatchOnce() {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<ItemDto> page = itemService.textSearch(searchWord.toUpperCase(), 0, 1, cursor);
+            page.getContent().forEach(item -> ids.add(item.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(List.of(lantern, headlamp, battery), ids);
+    }
+
+    @Test
+    void textSearch_whenOffsetIsNotMultipleOfSize_thenSkipExactlyOffsetRows() {
+        CursorPage<ItemDto> page = itemService.textSearch(searchWord, 1, 10, null);
+
+        assertEquals(List.of(headlamp, battery), page.getContent().stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList()));
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getAllItemsByUserId_whenOffsetIsNotMultipleOfSize_thenSkipExactlyOffsetRows() {
+        List<Long> ids = itemService.getAllItemsByUserId(ownerId, 1, 2, false).stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList());
+
+        assertEquals(List.of(lantern, headlamp), ids);
+    }
+
+    @Test
+    void addComment_whenAuthorHasApprovedPastBooking_thenSaveComment() {
+        long authorId = addUser("author");
+        addBooking(authorId, Status.APPROVED, LocalDateTime.now().minusDays(2));
+
+        CommentDto comment = itemService.addComment(authorId, lantern, CommentDto.builder().text("Ярко светит").build());
+
+        assertEquals("author", comment.getAuthorName());
+        assertEquals(List.of(comment.getId()), itemService.getComments(lantern, 0, 10).stream()
+                .map(CommentDto::getId)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void addComment_whenAuthorHasNoApprovedPastBooking_thenThrowValidation() {
+        long authorId = addUser("author");
+        long otherId = addUser("other");
+        addBooking(authorId, Status.WAITING, LocalDateTime.now().minusDays(2));
+        addBooking(authorId, Status.REJECTED, LocalDateTime.now().minusDays(4));
+        addBooking(authorId, Status.APPROVED, LocalDateTime.now().plusDays(2));
+        addBooking(otherId, Status.APPROVED, LocalDateTime.now().minusDays(6));
+        CommentDto comment = CommentDto.builder().text("Не пользовался").build();
+
+        assertThrows(ValidationException.class, () -> itemService.addComment(authorId, lantern, comment));
+    }
+
+    private void addBooking(long bookerId, Status status, LocalDateTime starts) {
+        bookingDao.addBooking(Booking.builder()
+                .item(itemDao.getItemById(lantern))
+                .booker(userDao.getUserById(bookerId))
+                .ownerId(ownerId)
+                .starts(starts)
+                .ends(starts.plusDays(1))
+                .status(status)
+                .build());
+    }
+
+    private long addUser(String name) {
+        return userService.addUser(UserDto.builder()
+                .name(name)
+                .email(System.nanoTime() + "@search.ru")
+                .build()).getId();
+    }
+
+    private long addItem(long ownerId, String name, String description, boolean available) {
+        return itemService.addItem(ownerId, ItemItemRequestDto.builder()
+                .name(name)
+                .description(description)
+                .available(available)
+                .build()).getId();
+    }
+}
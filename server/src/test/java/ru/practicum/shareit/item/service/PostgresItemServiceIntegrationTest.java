@@ -0,0 +1,20 @@
+package ru.practicum.shareit.item.service;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import ru.practicum.shareit.PostgresContainerTest;
+
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresItemServiceIntegrationTest extends ItemServiceIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = PostgresContainerTest.newContainer();
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        PostgresContainerTest.register(registry, POSTGRES);
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.pagination;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.exception.ValidationException;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorTest {
+
+    @Test
+    void page_whenNoToken_thenUseFirstPageKeysAndOffset() {
+        Cursor position = Cursor.page(null, 7, 5, Cursor.LATEST, Long.MAX_VALUE);
+
+        assertEquals(Cursor.LATEST, position.getDateTime(0));
+        assertEquals(Long.MAX_VALUE, position.getLong(1));
+        assertEquals(new OffsetPageRequest(7, 5), position.getPageable());
+    }
+
+    @Test
+    void page_whenTokenGiven_thenUseItsKeysAndIgnoreOffset() {
+        LocalDateTime starts = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+        String token = Cursor.encode(starts, 42L);
+
+        Cursor position = Cursor.page(token, 7, 5, Cursor.LATEST, Long.MAX_VALUE);
+
+        assertEquals(starts, position.getDateTime(0));
+        assertEquals(42L, position.getLong(1));
+        assertEquals(new OffsetPageRequest(0, 5), position.getPageable());
+    }
+
+    @Test
+    void page_whenRankEncoded_thenRoundTripExactly() {
+        Cursor position = Cursor.page(Cursor.encode(0.0607927f, 3L), 0, 5, Float.MAX_VALUE, 0L);
+
+        assertEquals(0.0607927f, position.getFloat(0));
+        assertEquals(Float.MAX_VALUE, Cursor.page(null, 0, 5, Float.MAX_VALUE, 0L).getFloat(0));
+    }
+
+    @Test
+    void page_whenTokenHasWrongKeyCount_thenThrow() {
+        String token = Cursor.encode(1L);
+
+        assertThrows(ValidationException.class, () -> Cursor.page(token, 0, 5, Cursor.LATEST, Long.MAX_VALUE));
+    }
+
+    @Test
+    void page_whenTokenIsNotBase64_thenThrow() {
+        assertThrows(ValidationException.class, () -> Cursor.page("%%%", 0, 5, 0L));
+    }
+
+    @Test
+    void getLong_whenValueIsNotNumber_thenThrow() {
+        Cursor position = Cursor.page(Cursor.encode("abc"), 0, 5, 0L);
+
+        assertThrows(ValidationException.class, () -> position.getLong(0));
+    }
+}
@@ -0,0 +1,56 @@
+package ru.practicum.shareit.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffsetPageRequestTest {
+
+    @Test
+    void getOffset_whenNotMultipleOfSize_thenKeepExactOffset() {
+        OffsetPageRequest page = new OffsetPageRequest(7, 5);
+
+        assertEquals(7, page.getOffset());
+        assertEquals(5, page.getPageSize());
+        assertEquals(1, page.getPageNumber());
+    }
+
+    @Test
+    void next_thenMoveBySize() {
+        assertEquals(new OffsetPageRequest(12, 5), new OffsetPageRequest(7, 5).next());
+    }
+
+    @Test
+    void previousOrFirst_thenMoveBackNotBelowZero() {
+        assertEquals(new OffsetPageRequest(2, 5), new OffsetPageRequest(7, 5).previousOrFirst());
+        assertEquals(new OffsetPageRequest(0, 5), new OffsetPageRequest(3, 5).previousOrFirst());
+    }
+
+    @Test
+    void withPage_thenStartAtPageBoundary() {
+        assertEquals(new OffsetPageRequest(15, 5), new OffsetPageRequest(7, 5).withPage(3));
+        assertEquals(new OffsetPageRequest(0, 5), new OffsetPageRequest(7, 5).first());
+    }
+
+    @Test
+    void hasPrevious_thenDependOnOffset() {
+        assertTrue(new OffsetPageRequest(1, 5).hasPrevious());
+        assertFalse(new OffsetPageRequest(0, 5).hasPrevious());
+    }
+
+    @Test
+    void equals_thenCompareOffsetAndSize() {
+        assertEquals(new OffsetPageRequest(7, 5).hashCode(), new OffsetPageRequest(7, 5).hashCode());
+        assertNotEquals(new OffsetPageRequest(5, 5), new OffsetPageRequest(7, 5));
+    }
+
+    @Test
+    void constructor_whenSizeIsZero_thenThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new OffsetPageRequest(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new OffsetPageRequest(-1, 5));
+    }
+}
@@ -0,0 +1,99 @@
+package ru.practicum.shareit.request;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.request.dto.ItemRequestResponseDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ItemRequestController.class)
+class ItemRequestControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper mapper;
+    @MockBean
+    private ItemRequestService itemRequestService;
+    private final ItemRequestResponseDto request = ItemRequestResponseDto.builder()
+            .id(1L)
+            .description("Нужна дрель")
+            .items(List.of())
+            .build();
+
+    @SneakyThrows
+    @Test
+    void getItemsByUserId_whenNoPagingParameters_thenReturnWholeList() {
+        when(itemRequestService.getItemsRequests(1L)).thenReturn(List.of(request, request, request));
+
+        mockMvc.perform(get("/requests").header("X-Sharer-User-Id", 1))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.length()").value(3));
+
+        verify(itemRequestService, never()).getItemsRequests(anyLong(), anyInt(), anyInt(), any());
+    }
+
+    @SneakyThrows
+    @Test
+    void getItemsByUserId_whenFromGiven_thenPageWithDefaultSize() {
+        when(itemRequestService.getItemsRequests(1L, 5, 20, null))
+                .thenReturn(new CursorPage<>(List.of(request), "next"));
+
+        mockMvc.perform(get("/requests").header("X-Sharer-User-Id", 1).param("from", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, "next"));
+    }
+
+    @SneakyThrows
+    @Test
+    void streamItemsByUserId_whenNdjsonAccepted_thenFollowCursorsToLastPage() {
+        ItemRequestResponseDto last = ItemRequestResponseDto.builder()
+                .id(2L)
+                .description("Нужен молоток")
+                .items(List.of())
+                .build();
+        when(itemRequestService.getItemsRequests(1L, 0, 1, null)).thenReturn(new CursorPage<>(List.of(request), "next"));
+        when(itemRequestService.getItemsRequests(1L, 0, 1, "next")).thenReturn(new CursorPage<>(List.of(last), null));
+
+        MvcResult result = mockMvc.perform(get("/requests").header("X-Sharer-User-Id", 1).param("size", "1")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().bytes((mapper.writeValueAsString(request) + "\n" +
+                        mapper.writeValueAsString(last) + "\n").getBytes(StandardCharsets.UTF_8)));
+        verify(itemRequestService, never()).getItemsRequests(1L);
+    }
+
+    @SneakyThrows
+    @Test
+    void streamItemsByUserId_whenSizeTooLarge_thenReturnBadRequest() {
+        mockMvc.perform(get("/requests").header("X-Sharer-User-Id", 1).param("size", "101")
+                        .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.request.service;
+
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("memory")
+class InMemoryItemRequestServiceIntegrationTest extends ItemRequestServiceIntegrationTest {
+}
@@ -0,0 +1,115 @@
+package ru.practicum.shareit.request.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import ru.practicum.shareit.exception.ObjectNotFoundException;
+import ru.practicum.shareit.item.dto.ItemItemRequestDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestResponseDto;
+import ru.practicum.shareit.request.dto.ItemRequestResponseDtoItem;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ItemRequestServiceIntegrationTest {
+
+    @Autowired
+    private ItemRequestService itemRequestService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private UserService userService;
+    private long requesterId;
+    private long ownerId;
+    private long requestId;
+    private String word;
+
+    @BeforeEach
+    void setUp() {
+        requesterId = addUser("requester");
+        ownerId = addUser("owner");
+        word = "палатка" + System.nanoTime();
+        requestId = itemRequestService.addItemRequest(requesterId, ItemRequestDto.builder()
+                .description("Нужна трёхместная " + word)
+                .build()).getId();
+    }
+
+    @Test
+    void addItem_whenItemMatchesOpenRequest_thenSuggestItToRequester() {
+        long itemId = addItem("Трёхместная " + word, 0);
+
+        ItemRequestResponseDto own = findOwnRequest();
+        assertEquals(List.of(itemId), ids(own.getSuggestions()));
+        assertEquals(List.of(itemId), ids(itemRequestService.getRequestById(requesterId, requestId).getSuggestions()));
+        assertNull(itemRequestService.getRequestById(ownerId, requestId).getSuggestions());
+    }
+
+    @Test
+    void addItem_whenRequestIsAnswered_thenStopSuggestingForIt() {
+        long answer = addItem("Трёхместная " + word, requestId);
+        addItem("Трёхместная " + word, 0);
+
+        ItemRequestResponseDto own = findOwnRequest();
+        assertEquals(List.of(answer), ids(own.getItems()));
+        assertTrue(own.getSuggestions().isEmpty());
+    }
+
+    @Test
+    void deleteUser_whenRequesterDeleted_thenDropTheirRequests() {
+        addItem("Трёхместная " + word, 0);
+
+        userService.deleteUser(requesterId);
+
+        assertThrows(ObjectNotFoundException.class, () -> itemRequestService.getRequestById(ownerId, requestId));
+    }
+
+    @Test
+    void deleteUser_whenRequestIsAnswered_thenRejectAndKeepRequest() {
+        long answer = addItem("Трёхместная " + word, requestId);
+
+        assertThrows(DataIntegrityViolationException.class, () -> userService.deleteUser(requesterId));
+
+        assertEquals(List.of(answer), ids(findOwnRequest().getItems()));
+    }
+
+    private ItemRequestResponseDto findOwnRequest() {
+        return itemRequestService.getItemsRequests(requesterId).stream()
+                .filter(request -> request.getId() == requestId)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private long addUser(String name) {
+        return userService.addUser(UserDto.builder()
+                .name(name)
+                .email(System.nanoTime() + "@request.ru")
+                .build()).getId();
+    }
+
+    private long addItem(String name, long requestId) {
+        return itemService.addItem(ownerId, ItemItemRequestDto.builder()
+                .name(name)
+                .description("Лёгкая")
+                .available(true)
+                .requestId(requestId)
+                .build()).getId();
+    }
+
+    private static List<Long> ids(List<ItemRequestResponseDtoItem> items) {
+        return items.stream()
+                .map(ItemRequestResponseDtoItem::getId)
+                .collect(Collectors.toList());
+    }
+}
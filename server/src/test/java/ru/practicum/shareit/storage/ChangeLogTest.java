@@ -0,0 +1,187 @@
+package ru.practicum.shareit.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangeLogTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    @TempDir
+    Path dir;
+
+    @Test
+    void load_whenReopened_thenReplayPutsAndDeletes() {
+        try (Store store = new Store(100)) {
+            store.put(new Note(1, "первая"));
+            store.put(new Note(2, "вторая"));
+            store.put(new Note(1, "исправленная"));
+            store.delete(2);
+        }
+
+        try (Store store = new Store(100)) {
+            assertEquals(Map.of(1L, new Note(1, "исправленная")), store.notes);
+        }
+    }
+
+    @Test
+    void load_whenLogCleared_thenReplayOnlyLaterRecords() {
+        try (Store store = new Store(100)) {
+            store.put(new Note(1, "первая"));
+            store.clear();
+            store.put(new Note(2, "вторая"));
+        }
+
+        try (Store store = new Store(100)) {
+            assertEquals(Map.of(2L, new Note(2, "вторая")), store.notes);
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    void compact_whenThresholdReached_thenSnapshotAndStartNewLog() {
+        try (Store store = new Store(3)) {
+            store.put(new Note(1, "первая"));
+            store.put(new Note(2, "вторая"));
+            store.changeLog.compact();
+            assertEquals(2, Files.readAllLines(dir.resolve("notes.log")).size());
+
+            store.put(new Note(1, "исправленная"));
+            assertEquals(3, Files.readAllLines(dir.resolve("notes.log")).size());
+            store.changeLog.compact();
+
+            assertEquals(0, Files.size(dir.resolve("notes.log")));
+            assertEquals(2, Files.readAllLines(dir.resolve("notes.snapshot")).size());
+            assertFalse(Files.exists(dir.resolve("notes.log.compacting")));
+            store.put(new Note(3, "третья"));
+        }
+
+        try (Store store = new Store(3)) {
+            assertEquals(Map.of(1L, new Note(1, "исправленная"), 2L, new Note(2, "вторая"),
+                    3L, new Note(3, "третья")), store.notes);
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    void load_whenLogTailIsTorn_thenKeepCompleteEntriesAndRewriteSnapshot() {
+        try (Store store = new Store(100)) {
+            store.put(new Note(1, "первая"));
+        }
+        Files.write(dir.resolve("notes.log"), "{\"op\":\"PUT\",\"id\":2,\"rec".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        try (Store store = new Store(100)) {
+            assertEquals(Map.of(1L, new Note(1, "первая")), store.notes);
+            assertEquals(0, Files.size(dir.resolve("notes.log")));
+            assertTrue(Files.exists(dir.resolve("notes.snapshot")));
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    void load_whenCompactionInterrupted_thenReplayRotatedLogAndFinishSnapshot() {
+        try (Store store = new Store(100)) {
+            store.put(new Note(1, "первая"));
+            store.put(new Note(2, "вторая"));
+        }
+        Files.move(dir.resolve("notes.log"), dir.resolve("notes.log.compacting"));
+
+        try (Store store = new Store(100)) {
+            store.put(new Note(3, "третья"));
+        }
+
+        try (Store store = new Store(100)) {
+            assertEquals(Map.of(1L, new Note(1, "первая"), 2L, new Note(2, "вторая"),
+                    3L, new Note(3, "третья")), store.notes);
+            assertFalse(Files.exists(dir.resolve("notes.log.compacting")));
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    void load_whenCompleteLineIsCorrupted_thenFail() {
+        try (Store store = new Store(100)) {
+            store.put(new Note(1, "первая"));
+            store.put(new Note(2, "вторая"));
+        }
+        Path log = dir.resolve("notes.log");
+        List<String> lines = Files.readAllLines(log);
+        Files.write(log, List.of("{\"op\":\"PUT\",\"id\":1,\"rec", lines.get(1)));
+
+        assertThrows(IllegalStateException.class, () -> new Store(100));
+
+        Files.write(log, List.of(lines.get(0), "{\"op\":\"MOVE\",\"id\":2}"));
+
+        assertThrows(IllegalStateException.class, () -> new Store(100));
+    }
+
+    @Test
+    void load_whenNoDataDir_thenKeepNothing() {
+        ChangeLog<Note> changeLog = ChangeLog.open("", "notes", Note.class, Note::getId, mapper, 1, false);
+        changeLog.load(ArrayList::new);
+        changeLog.write(() -> changeLog.put(new Note(1, "первая")));
+
+        assertTrue(changeLog.load(ArrayList::new).isEmpty());
+    }
+
+    private class Store implements AutoCloseable {
+        private final Map<Long, Note> notes = new LinkedHashMap<>();
+        private final ChangeLog<Note> changeLog;
+
+        Store(int compactAfter) {
+            changeLog = ChangeLog.open(dir.toString(), "notes", Note.class, Note::getId, mapper, compactAfter,
+                    true);
+            notes.putAll(changeLog.load(() -> new ArrayList<>(notes.values())));
+        }
+
+        void put(Note note) {
+            changeLog.write(() -> {
+                notes.put(note.getId(), note);
+                changeLog.put(note);
+            });
+        }
+
+        void delete(long id) {
+            changeLog.write(() -> {
+                notes.remove(id);
+                changeLog.delete(id);
+            });
+        }
+
+        void clear() {
+            changeLog.clear(notes::clear);
+        }
+
+        @Override
+        public void close() {
+            changeLog.close();
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Note {
+        private long id;
+        private String text;
+    }
+}
@@ -0,0 +1,68 @@
+package ru.practicum.shareit.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntListTest {
+
+    @Test
+    void add_whenGrownPastInitialCapacity_thenKeepEveryValue() {
+        IntList list = new IntList();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        assertEquals(100, list.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, list.get(i));
+        }
+    }
+
+    @Test
+    void add_whenOutOfOrderOrRepeated_thenKeepAscendingDistinctValues() {
+        IntList list = new IntList();
+        list.add(5);
+        list.add(1);
+        list.add(3);
+        list.add(3);
+
+        assertEquals(List.of(1, 3, 5), values(list));
+    }
+
+    @Test
+    void removeValue_whenPresent_thenKeepOrderOfTheRest() {
+        IntList list = new IntList();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+
+        assertTrue(list.removeValue(1));
+        assertFalse(list.removeValue(1));
+
+        assertEquals(List.of(2, 3), values(list));
+    }
+
+    @Test
+    void isEmpty_whenLastValueRemoved_thenTrue() {
+        IntList list = new IntList();
+        list.add(5);
+
+        list.removeValue(5);
+
+        assertTrue(list.isEmpty());
+    }
+
+    private static List<Integer> values(IntList list) {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            values.add(list.get(i));
+        }
+        return values;
+    }
+}
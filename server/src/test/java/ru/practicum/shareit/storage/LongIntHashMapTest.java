@@ -0,0 +1,85 @@
+package ru.practicum.shareit.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LongIntHashMapTest {
+
+    @Test
+    void get_whenKeyMissing_thenReturnMinusOne() {
+        LongIntHashMap map = new LongIntHashMap(4);
+
+        assertEquals(-1, map.get(7));
+        assertEquals(-1, map.remove(7));
+    }
+
+    @Test
+    void put_whenKeyExists_thenReplaceValue() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        map.put(7, 1);
+        map.put(7, 2);
+
+        assertEquals(2, map.get(7));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void put_whenGrownPastCapacity_thenKeepEveryEntry() {
+        LongIntHashMap map = new LongIntHashMap(2);
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i * 1024L, i);
+        }
+
+        assertEquals(10_000, map.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, map.get(i * 1024L));
+        }
+    }
+
+    @Test
+    void remove_whenMixedWithPuts_thenMatchHashMap() {
+        LongIntHashMap map = new LongIntHashMap(16);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(2_000) - 1_000;
+            if (random.nextBoolean()) {
+                map.put(key, i);
+                expected.put(key, i);
+            } else {
+                assertEquals(expected.getOrDefault(key, -1), map.remove(key));
+                expected.remove(key);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = -1_000; key < 1_000; key++) {
+            assertEquals(expected.getOrDefault(key, -1), map.get(key));
+        }
+    }
+
+    @Test
+    void clear_whenCalled_thenForgetEveryKey() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        map.put(1, 1);
+        map.put(2, 2);
+
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertEquals(-1, map.get(1));
+    }
+
+    @Test
+    void put_whenKeyIsReservedMarker_thenThrow() {
+        LongIntHashMap map = new LongIntHashMap(4);
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(Long.MIN_VALUE, 1));
+    }
+}
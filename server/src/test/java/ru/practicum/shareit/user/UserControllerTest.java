@@ -0,0 +1,108 @@
+package ru.practicum.shareit.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = UserController.class)
+class UserControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper mapper;
+    @MockBean
+    private UserService userService;
+    private final UserDto userDto = UserDto.builder()
+            .id(1L)
+            .name("name")
+            .email("user@email.com")
+            .build();
+
+    @SneakyThrows
+    @Test
+    void getAllUsers_whenNoPagingParameters_thenReturnWholeList() {
+        when(userService.getAllUsers()).thenReturn(List.of(userDto, userDto));
+
+        mockMvc.perform(get("/users"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.length()").value(2));
+
+        verify(userService, never()).getAllUsers(anyInt(), anyInt(), any());
+    }
+
+    @SneakyThrows
+    @Test
+    void getAllUsers_whenOnlySizeGiven_thenPageFromStart() {
+        when(userService.getAllUsers(0, 1, null)).thenReturn(new CursorPage<>(List.of(userDto), "next"));
+
+        mockMvc.perform(get("/users").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, "next"))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @SneakyThrows
+    @Test
+    void getAllUsers_whenOnlyCursorGiven_thenUseDefaultSize() {
+        when(userService.getAllUsers(0, 20, "abc")).thenReturn(new CursorPage<>(List.of(), null));
+
+        mockMvc.perform(get("/users").param("cursor", "abc"))
+                .andExpect(status().isOk());
+
+        verify(userService).getAllUsers(0, 20, "abc");
+    }
+
+    @SneakyThrows
+    @Test
+    void streamAllUsers_whenNdjsonAccepted_thenWriteOneUserPerLine() {
+        UserDto other = UserDto.builder().id(2L).name("other").email("other@email.com").build();
+        doAnswer(invocation -> {
+            Consumer<UserDto> action = invocation.getArgument(0);
+            action.accept(userDto);
+            action.accept(other);
+            return null;
+        }).when(userService).streamAllUsers(any());
+
+        MvcResult result = mockMvc.perform(get("/users").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().bytes((mapper.writeValueAsString(userDto) + "\n" +
+                        mapper.writeValueAsString(other) + "\n").getBytes(StandardCharsets.UTF_8)));
+        verify(userService, never()).getAllUsers();
+    }
+
+    @SneakyThrows
+    @Test
+    void getAllUsers_whenSizeIsZero_thenReturnBadRequest() {
+        mockMvc.perform(get("/users").param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,112 @@
+package ru.practicum.shareit.user.dao;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.storage.ChangeLogFactory;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InMemoryUserDaoTest {
+
+    private final List<Long> restricted = new ArrayList<>();
+    private final List<Long> cascaded = new ArrayList<>();
+    private InMemoryUserDao userDao;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("references", new UserReferences() {
+            @Override
+            public void checkRestricted(long userId) {
+                if (restricted.contains(userId)) {
+                    throw new DataIntegrityViolationException("restricted");
+                }
+            }
+
+            @Override
+            public void deleteByUserId(long userId) {
+                cascaded.add(userId);
+            }
+        });
+        userDao = new InMemoryUserDao(new ChangeLogFactory("", 100, false, new ObjectMapper()),
+                beans.getBeanProvider(UserReferences.class));
+        for (int i = 1; i <= 3; i++) {
+            userDao.addUser(User.builder().name("user" + i).email("user" + i + "@mail.ru").build());
+        }
+    }
+
+    @Test
+    void deleteUser_whenRowInTheMiddle_thenKeepOtherUsersReachable() {
+        userDao.deleteUser(1);
+
+        assertNull(userDao.getUserById(1));
+        assertEquals("user2", userDao.getUserById(2).getName());
+        assertEquals("user3", userDao.getUserById(3).getName());
+        assertEquals(2, userDao.getAllUsers().size());
+    }
+
+    @Test
+    void deleteUser_whenReferencesAllowIt_thenCascadeAfterRemovingUser() {
+        userDao.deleteUser(1);
+        userDao.deleteUser(42);
+
+        assertNull(userDao.getUserById(1));
+        assertEquals(List.of(1L), cascaded);
+    }
+
+    @Test
+    void deleteUser_whenReferenceRestrictsIt_thenKeepUserAndSkipCascade() {
+        restricted.add(2L);
+
+        assertThrows(DataIntegrityViolationException.class, () -> userDao.deleteUser(2));
+
+        assertEquals("user2", userDao.getUserById(2).getName());
+        assertEquals(List.of(), cascaded);
+    }
+
+    @Test
+    void deleteUser_whenMostRowsDeleted_thenCompactAndKeepIdOrder() {
+        userDao.addUser(User.builder().name("user4").email("user4@mail.ru").build());
+        userDao.deleteUser(1);
+        userDao.deleteUser(3);
+        userDao.deleteUser(2);
+
+        assertEquals(List.of(4L), ids(userDao.getAllUsers()));
+        assertEquals("user4", userDao.getUserById(4).getName());
+    }
+
+    @Test
+    void findByIdGreaterThanOrderById_whenCursorGiven_thenReadForwardSkippingDeleted() {
+        userDao.addUser(User.builder().name("user4").email("user4@mail.ru").build());
+        userDao.deleteUser(2);
+
+        assertEquals(List.of(3L, 4L), ids(userDao.findByIdGreaterThanOrderById(1, PageRequest.of(0, 2))));
+        assertEquals(List.of(4L), ids(userDao.findByIdGreaterThanOrderById(1, PageRequest.of(1, 1))));
+    }
+
+    @Test
+    void addUser_whenUserDeleted_thenNeverReuseId() {
+        userDao.deleteUser(3);
+
+        User user = userDao.addUser(User.builder().name("user4").email("user4@mail.ru").build());
+
+        assertEquals(4, user.getId());
+    }
+
+    private static List<Long> ids(List<User> users) {
+        return users.stream()
+                .map(User::getId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,84 @@
+package ru.practicum.shareit.user.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.dto.UserSnapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest
+class UserServiceIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    private Cache cache;
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(UserRepository.CACHE);
+        userId = userService.addUser(UserDto.builder()
+                .name("user")
+                .email(System.nanoTime() + "@cache.ru")
+                .build()).getId();
+    }
+
+    @Test
+    void getUserById_whenUserLoaded_thenCacheImmutableSnapshot() {
+        assertNull(cache.get(userId));
+
+        userService.getUserById(userId);
+
+        assertInstanceOf(UserSnapshot.class, cache.get(userId).get());
+    }
+
+    @Test
+    void updateUser_whenTransactionCommits_thenEvictOnlyAfterCommit() {
+        userService.getUserById(userId);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userService.updateUser(UserDto.builder().id(userId).name("renamed").build());
+            assertNotNull(cache.get(userId));
+        });
+
+        assertNull(cache.get(userId));
+        assertEquals("renamed", userService.getUserById(userId).getName());
+    }
+
+    @Test
+    void updateUser_whenTransactionRollsBack_thenKeepCachedUser() {
+        userService.getUserById(userId);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userService.updateUser(UserDto.builder().id(userId).name("renamed").build());
+            status.setRollbackOnly();
+        });
+
+        assertNotNull(cache.get(userId));
+        assertEquals("user", userService.getUserById(userId).getName());
+    }
+
+    @Test
+    void deleteUser_whenCommitted_thenEvictCachedUser() {
+        userService.getUserById(userId);
+
+        userService.deleteUser(userId);
+
+        assertNull(cache.get(userId));
+    }
+}